@@ -6,6 +6,7 @@ import com.jobos.backend.domain.cv.CVTemplate;
 import com.jobos.backend.domain.cv.TemplateCategory;
 import com.jobos.backend.repository.CVTemplateRepository;
 import com.jobos.backend.repository.SubscriptionPlanRepository;
+import com.jobos.backend.service.CVTemplateCatalog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
@@ -142,7 +143,7 @@ public class DataSeeder {
         """;
 
     @Bean
-    CommandLineRunner seedCVTemplates(CVTemplateRepository templateRepository) {
+    CommandLineRunner seedCVTemplates(CVTemplateRepository templateRepository, CVTemplateCatalog templateCatalog) {
         return args -> {
             if (templateRepository.count() > 0) {
                 logger.info("CV Templates already exist. Skipping seeding.");
@@ -162,6 +163,7 @@ public class DataSeeder {
             );
 
             templateRepository.saveAll(templates);
+            templateCatalog.refresh();
             logger.info("Successfully seeded {} CV Templates", templates.size());
         };
     }
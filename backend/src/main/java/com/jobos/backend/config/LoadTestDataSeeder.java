@@ -0,0 +1,257 @@
+package com.jobos.backend.config;
+
+import com.jobos.backend.domain.application.Application;
+import com.jobos.backend.domain.application.ApplicationStatus;
+import com.jobos.backend.domain.cv.CV;
+import com.jobos.backend.domain.cv.CVSection;
+import com.jobos.backend.domain.cv.CVSectionType;
+import com.jobos.backend.domain.job.ExperienceLevel;
+import com.jobos.backend.domain.job.JobPost;
+import com.jobos.backend.domain.job.JobStatus;
+import com.jobos.backend.domain.job.JobType;
+import com.jobos.backend.domain.notification.Notification;
+import com.jobos.backend.domain.notification.NotificationType;
+import com.jobos.backend.domain.user.User;
+import com.jobos.backend.domain.user.UserRole;
+import com.jobos.backend.domain.user.UserStatus;
+import com.jobos.backend.repository.UserRepository;
+import com.jobos.backend.service.JobCountReconciler;
+import com.jobos.backend.service.PasswordHashingService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Bulk-seeds a deterministic dataset for the load-test harness. Only active under the {@code loadtest} profile;
+ * every seeded account shares {@link #PASSWORD} so the driver can log in as any of them.
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestDataSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+
+    public static final String EMAIL_DOMAIN = "loadtest.jobos";
+    public static final String PASSWORD = "LoadTest123!";
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String[] TITLES = {
+        "Backend Engineer", "Frontend Developer", "Data Analyst", "Product Manager", "DevOps Engineer",
+        "QA Engineer", "Mobile Developer", "Data Scientist", "Technical Writer", "Site Reliability Engineer"
+    };
+    private static final String[] COMPANIES = {
+        "Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark Industries", "Wayne Enterprises", "Tyrell"
+    };
+    private static final String[] LOCATIONS = {
+        "Dhaka", "Berlin", "London", "New York", "Toronto", "Singapore", "Sydney", "Bangalore"
+    };
+    private static final String[] SKILLS = {
+        "Java", "Spring", "PostgreSQL", "Kotlin", "React", "TypeScript", "Docker", "Kubernetes",
+        "AWS", "Python", "SQL", "Go", "Terraform", "Kafka", "Redis", "GraphQL"
+    };
+
+    private final UserRepository userRepository;
+    private final JobCountReconciler jobCountReconciler;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${loadtest.seed.users:1000}")
+    private int users;
+
+    @Value("${loadtest.seed.jobs:5000}")
+    private int jobs;
+
+    @Value("${loadtest.seed.applications-per-seeker:5}")
+    private int applicationsPerSeeker;
+
+    @Value("${loadtest.seed.notifications-per-user:10}")
+    private int notificationsPerUser;
+
+    @Value("${loadtest.seed.random-seed:42}")
+    private long randomSeed;
+
+    public LoadTestDataSeeder(
+            UserRepository userRepository,
+            JobCountReconciler jobCountReconciler,
+            PasswordHashingService passwordHashingService,
+            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.jobCountReconciler = jobCountReconciler;
+        this.passwordHashingService = passwordHashingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public static String seekerEmail(int index) {
+        return "seeker" + index + "@" + EMAIL_DOMAIN;
+    }
+
+    public static String posterEmail(int index) {
+        return "poster" + index + "@" + EMAIL_DOMAIN;
+    }
+
+    @Bean
+    public CommandLineRunner seedLoadTestData() {
+        return args -> {
+            if (userRepository.findByEmail(seekerEmail(0)).isPresent()) {
+                logger.info("Load-test dataset already present, skipping seeding");
+                return;
+            }
+
+            long started = System.nanoTime();
+            Random random = new Random(randomSeed);
+            // One BCrypt hash for every account; hashing per user would dominate seeding time
+            String passwordHash = passwordHashingService.encode(PASSWORD);
+
+            int posterCount = Math.max(1, users / 10);
+            int seekerCount = Math.max(1, users - posterCount);
+            List<UUID> posterIds = persistInChunks(posterCount,
+                    i -> newUser(posterEmail(i), UserRole.POSTER, passwordHash, i), User::getId);
+            List<UUID> seekerIds = persistInChunks(seekerCount,
+                    i -> newUser(seekerEmail(i), UserRole.SEEKER, passwordHash, i), User::getId);
+            List<UUID> jobIds = persistInChunks(jobs,
+                    i -> newJobPost(posterIds.get(i % posterIds.size()), random), JobPost::getId);
+
+            int perSeeker = Math.min(applicationsPerSeeker, jobIds.size());
+            persistInChunks(seekerIds.size() * perSeeker,
+                    i -> newApplication(seekerIds.get(i / perSeeker), jobIds, i / perSeeker, i % perSeeker),
+                    Application::getId);
+            persistInChunks(seekerIds.size(), i -> newCv(seekerIds.get(i)), CV::getId);
+            persistInChunks(seekerIds.size() * notificationsPerUser,
+                    i -> newNotification(seekerIds.get(i / notificationsPerUser), random), Notification::getId);
+
+            jobCountReconciler.reconcileApplicationCounts();
+
+            logger.info("Seeded load-test dataset: {} posters, {} seekers, {} jobs, {} applications, {} notifications in {} ms",
+                    posterIds.size(), seekerIds.size(), jobIds.size(), seekerIds.size() * perSeeker,
+                    seekerIds.size() * notificationsPerUser, (System.nanoTime() - started) / 1_000_000);
+        };
+    }
+
+    /**
+     * Persists {@code count} entities in fixed-size transactions, clearing the persistence context between chunks
+     * so memory stays flat regardless of dataset size.
+     */
+    private <T> List<UUID> persistInChunks(int count, IntFunction<T> factory, Function<T, UUID> idOf) {
+        List<UUID> ids = new ArrayList<>(Math.max(count, 0));
+        for (int start = 0; start < count; start += CHUNK_SIZE) {
+            int from = start;
+            int to = Math.min(count, start + CHUNK_SIZE);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = from; i < to; i++) {
+                    T entity = factory.apply(i);
+                    entityManager.persist(entity);
+                    ids.add(idOf.apply(entity));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return ids;
+    }
+
+    private User newUser(String email, UserRole role, String passwordHash, int index) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPasswordHash(passwordHash);
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        user.setFirstName(role == UserRole.POSTER ? "Poster" : "Seeker");
+        user.setLastName(String.valueOf(index));
+        user.setProfileCompleted(true);
+        return user;
+    }
+
+    private JobPost newJobPost(UUID posterId, Random random) {
+        List<String> skills = pickSkills(random);
+        JobPost jobPost = new JobPost();
+        jobPost.setPoster(entityManager.getReference(User.class, posterId));
+        jobPost.setTitle(pick(TITLES, random));
+        jobPost.setCompany(pick(COMPANIES, random));
+        jobPost.setLocation(pick(LOCATIONS, random));
+        jobPost.setIsRemote(random.nextInt(3) == 0);
+        jobPost.setJobType(JobType.values()[random.nextInt(JobType.values().length)]);
+        jobPost.setExperienceLevel(ExperienceLevel.values()[random.nextInt(ExperienceLevel.values().length)]);
+        int salaryMin = 30_000 + random.nextInt(100) * 1_000;
+        jobPost.setSalaryMin(salaryMin);
+        jobPost.setSalaryMax(salaryMin + 10_000 + random.nextInt(50) * 1_000);
+        jobPost.setSkills("[\"" + String.join("\",\"", skills) + "\"]");
+        jobPost.replaceSkillTokens(skills);
+        jobPost.setDescription("We are hiring a " + String.join(", ", skills) + " specialist to join a growing team.");
+        jobPost.setStatus(JobStatus.ACTIVE);
+        return jobPost;
+    }
+
+    private Application newApplication(UUID seekerId, List<UUID> jobIds, int seekerIndex, int slot) {
+        // Stride through the job list from a per-seeker offset so a seeker never applies to the same job twice
+        int jobIndex = (int) (((long) seekerIndex * 7919 + slot) % jobIds.size());
+        Application application = new Application();
+        application.setSeeker(entityManager.getReference(User.class, seekerId));
+        application.setJobPost(entityManager.getReference(JobPost.class, jobIds.get(jobIndex)));
+        application.setStatus(ApplicationStatus.PENDING);
+        application.setCoverLetter("I would love to work on this team.");
+        application.setCvFileUrl("https://cdn." + EMAIL_DOMAIN + "/cv/" + seekerId + ".pdf");
+        return application;
+    }
+
+    private CV newCv(UUID seekerId) {
+        CV cv = new CV();
+        cv.setUser(entityManager.getReference(User.class, seekerId));
+        cv.setTitle("Load test CV");
+        cv.setIsDefault(true);
+        CVSectionType[] types = {CVSectionType.PERSONAL_INFO, CVSectionType.SUMMARY, CVSectionType.EXPERIENCE, CVSectionType.SKILLS};
+        for (int i = 0; i < types.length; i++) {
+            CVSection section = new CVSection();
+            section.setCv(cv);
+            section.setSectionType(types[i]);
+            section.setTitle(types[i].name());
+            section.setContent("{\"text\": \"Seeded content\"}");
+            section.setOrderIndex(i);
+            cv.getSections().add(section);
+        }
+        return cv;
+    }
+
+    private Notification newNotification(UUID userId, Random random) {
+        Notification notification = new Notification();
+        notification.setUser(entityManager.getReference(User.class, userId));
+        notification.setNotificationType(NotificationType.NEW_JOB_MATCH);
+        notification.setTitle("New job match");
+        notification.setMessage("A new " + pick(TITLES, random) + " role matches your profile.");
+        notification.setIsRead(random.nextBoolean());
+        return notification;
+    }
+
+    private static List<String> pickSkills(Random random) {
+        Set<String> picked = new LinkedHashSet<>();
+        int count = 2 + random.nextInt(4);
+        while (picked.size() < count) {
+            picked.add(pick(SKILLS, random));
+        }
+        return new ArrayList<>(picked);
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,64 @@
+package com.jobos.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each HTTP request issues and logs the request with its statement fingerprints when
+ * the total, or the repeats of a single statement (the N+1 signature), exceed the configured thresholds.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final DistributionSummary statementsPerRequest;
+
+    public QueryCountFilter(
+            MeterRegistry meterRegistry,
+            @Value("${diagnostics.sql.max-statements-per-request:25}") int maxStatements,
+            @Value("${diagnostics.sql.max-repeated-statements:10}") int maxRepeats
+    ) {
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+        this.statementsPerRequest = DistributionSummary.builder("http.server.requests.sql.statements")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        try (QueryTracker.Scope scope = QueryTracker.open()) {
+            filterChain.doFilter(request, response);
+
+            int count = scope.getStatementCount();
+            statementsPerRequest.record(count);
+            int repeats = scope.getMaxRepeats();
+            if (count > maxStatements || repeats > maxRepeats) {
+                logger.warn("{} {} issued {} SQL statements (most repeated: {}x){}\n{}",
+                        request.getMethod(), request.getRequestURI(), count, repeats,
+                        repeats > maxRepeats ? ", likely N+1" : "", scope.describe(5));
+            }
+        }
+    }
+}
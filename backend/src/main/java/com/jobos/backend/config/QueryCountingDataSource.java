@@ -0,0 +1,89 @@
+package com.jobos.backend.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Feeds every statement prepared or executed on this DataSource's connections into {@link QueryTracker}, so
+ * Hibernate and JdbcTemplate statements are counted alike. Installed around the application DataSource by
+ * {@link QueryCountingDataSourcePostProcessor}; connections are proxied, everything else is delegated.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS =
+            Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch");
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return identity(proxy, method, args);
+                    }
+                    if (PREPARE_METHODS.contains(method.getName()) && args != null && args[0] instanceof String sql) {
+                        QueryTracker.record(sql);
+                    }
+                    Object result = invoke(connection, method, args);
+                    return "createStatement".equals(method.getName()) ? countingStatement((Statement) result) : result;
+                });
+    }
+
+    /**
+     * Plain statements carry their SQL on each execute call rather than when they are created.
+     */
+    private static Statement countingStatement(Statement statement) {
+        return (Statement) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Statement.class}, (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return identity(proxy, method, args);
+                    }
+                    if (EXECUTE_METHODS.contains(method.getName()) && args != null && args[0] instanceof String sql) {
+                        QueryTracker.record(sql);
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return (method.getName().equals("equals") && method.getParameterCount() == 1)
+                || (method.getName().equals("hashCode") && method.getParameterCount() == 0);
+    }
+
+    /**
+     * A proxy is only equal to itself, as with Spring's own connection proxies. Forwarding to the target would
+     * make {@code proxy.equals(proxy)} false and break connection identity checks in pool and transaction code.
+     */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.jobos.backend.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a {@link QueryCountingDataSource}. The pool itself stays reachable through
+ * {@link DataSource#unwrap(Class)}, which is how the Hikari metrics and health indicators find it.
+ */
+@Component
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+            return new QueryCountingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
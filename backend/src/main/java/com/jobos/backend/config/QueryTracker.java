@@ -0,0 +1,133 @@
+package com.jobos.backend.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements prepared on the current thread, grouped by fingerprint (the statement with
+ * literals and IN lists collapsed). {@link QueryCountFilter} opens a scope per HTTP request; tests open their own to
+ * bound an operation, e.g. {@code QueryTracker.assertMaxStatements(3, () -> mockMvc.perform(get("/api/cvs")))}.
+ * Scopes nest, and every statement is counted in all open scopes on the thread. Statements are recorded by
+ * {@link QueryCountingDataSource}, so Hibernate and JdbcTemplate work is counted alike; statements run on other
+ * threads (async listeners, schedulers) fall outside the caller's scope.
+ */
+public final class QueryTracker {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private QueryTracker() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Runs {@code action} in a fresh scope and throws {@link AssertionError} if it issued more than
+     * {@code maxStatements} statements.
+     */
+    public static <T> T assertMaxStatements(int maxStatements, Callable<T> action) throws Exception {
+        try (Scope scope = open()) {
+            T result = action.call();
+            scope.assertAtMost(maxStatements);
+            return result;
+        }
+    }
+
+    static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        String fingerprint = fingerprint(sql);
+        for (Scope open = scope; open != null; open = open.parent) {
+            open.add(fingerprint);
+        }
+    }
+
+    static String fingerprint(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(...)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> counts = new HashMap<>();
+        private int statementCount;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void add(String fingerprint) {
+            statementCount++;
+            counts.merge(fingerprint, 1, Integer::sum);
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        /**
+         * Executions of the most repeated statement; a high value with a low distinct count usually means N+1.
+         */
+        public int getMaxRepeats() {
+            return counts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        public Map<String, Integer> getFingerprints() {
+            return Collections.unmodifiableMap(counts);
+        }
+
+        public void assertAtMost(int maxStatements) {
+            if (statementCount > maxStatements) {
+                throw new AssertionError("Expected at most " + maxStatements + " SQL statements but "
+                        + statementCount + " were executed:\n" + describe(10));
+            }
+        }
+
+        /**
+         * The most frequent fingerprints, one per line, prefixed with their execution count.
+         */
+        public String describe(int limit) {
+            List<Map.Entry<String, Integer>> entries = new ArrayList<>(counts.entrySet());
+            entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+            StringBuilder description = new StringBuilder();
+            for (Map.Entry<String, Integer> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+                description.append("  ").append(entry.getValue()).append("x ").append(entry.getKey()).append('\n');
+            }
+            return description.toString();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.jobos.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int slotsPerRule = 16384;
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * One limited route. A dimension (IP or email) is limited only when its capacity is positive.
+     * Refill rates are tokens per minute, so 0.5 allows one request every two minutes.
+     */
+    public static class Rule {
+        private String path;
+        private String method = "POST";
+        private int ipCapacity;
+        private double ipRefillPerMinute;
+        private int emailCapacity;
+        private double emailRefillPerMinute;
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public int getIpCapacity() {
+            return ipCapacity;
+        }
+
+        public void setIpCapacity(int ipCapacity) {
+            this.ipCapacity = ipCapacity;
+        }
+
+        public double getIpRefillPerMinute() {
+            return ipRefillPerMinute;
+        }
+
+        public void setIpRefillPerMinute(double ipRefillPerMinute) {
+            this.ipRefillPerMinute = ipRefillPerMinute;
+        }
+
+        public int getEmailCapacity() {
+            return emailCapacity;
+        }
+
+        public void setEmailCapacity(int emailCapacity) {
+            this.emailCapacity = emailCapacity;
+        }
+
+        public double getEmailRefillPerMinute() {
+            return emailRefillPerMinute;
+        }
+
+        public void setEmailRefillPerMinute(double emailRefillPerMinute) {
+            this.emailRefillPerMinute = emailRefillPerMinute;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getSlotsPerRule() {
+        return slotsPerRule;
+    }
+
+    public void setSlotsPerRule(int slotsPerRule) {
+        this.slotsPerRule = slotsPerRule;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+}
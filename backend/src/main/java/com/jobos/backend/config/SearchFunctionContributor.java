@@ -0,0 +1,33 @@
+package com.jobos.backend.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL full-text search functions used by job search criteria queries.
+ * Both take the raw user query and match it against job_posts.search_vector, which is named
+ * directly because it is not mapped on the entity; the query is parsed with websearch_to_tsquery
+ * so quotes, "or" and "-term" behave like a search box. Only valid where job_posts is the sole
+ * table in scope with a search_vector column.
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                "fts_match",
+                "(search_vector @@ websearch_to_tsquery('english', ?1))",
+                basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN)
+        );
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                "fts_rank",
+                "ts_rank(search_vector, websearch_to_tsquery('english', ?1))",
+                basicTypeRegistry.resolve(StandardBasicTypes.FLOAT)
+        );
+    }
+}
@@ -0,0 +1,147 @@
+package com.jobos.backend.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobos.backend.domain.job.JobPost;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Configuration
+public class SearchIndexConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexConfig.class);
+    private static final String SKILL_BACKFILL_STEP = "job-post-skills-backfill";
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    private static final TypeReference<List<String>> SKILL_LIST = new TypeReference<>() {};
+
+    // Search structures JPA cannot declare (the generated tsvector, GIN indexes, skill token backfill) are applied
+    // after Hibernate's schema update. The tsvector is deliberately not mapped on JobPost so entity loads never
+    // fetch it; the fts_match/fts_rank functions reference the column by name.
+    // This runs once every singleton, the EntityManagerFactory included, is ready, but before the web server starts
+    // accepting requests, so no request ever sees the table mid-rewrite or searches before the column exists.
+    @Bean
+    SmartInitializingSingleton createSearchIndexes(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        return () -> {
+            // Weighted full-text document (title > company > description), maintained by PostgreSQL on every write.
+            // Adding it rewrites the table under an exclusive lock, so the ALTER is only issued when it is missing
+            if (!columnExists(jdbcTemplate, "job_posts", "search_vector")) {
+                logger.info("Adding job_posts.search_vector; this rewrites the table");
+                jdbcTemplate.execute("""
+                    ALTER TABLE job_posts ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+                        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+                        setweight(to_tsvector('english', coalesce(company, '')), 'B') ||
+                        setweight(to_tsvector('english', coalesce(description, '')), 'C')
+                    ) STORED
+                    """);
+            }
+            createIndexConcurrently(jdbcTemplate, "idx_job_posts_search_vector",
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_posts_search_vector ON job_posts USING GIN (search_vector)");
+            backfillSkillTokensOnce(jdbcTemplate, objectMapper);
+            logger.info("Job search indexes verified");
+        };
+    }
+
+    /**
+     * Seeds job_post_skills from the skills JSON of jobs written before the table existed. Every later write keeps
+     * the tokens in step itself, so this runs once per database and records itself in schema_steps. Skills that
+     * are not a JSON array of strings are skipped rather than failing startup.
+     */
+    private static void backfillSkillTokensOnce(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS schema_steps (
+                name varchar(100) PRIMARY KEY,
+                applied_at timestamptz NOT NULL DEFAULT now()
+            )
+            """);
+        Integer applied = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM schema_steps WHERE name = ?", Integer.class, SKILL_BACKFILL_STEP);
+        if (applied != null && applied > 0) {
+            return;
+        }
+
+        int tokens = 0;
+        int malformed = 0;
+        UUID afterId = new UUID(0, 0);
+        while (true) {
+            List<Map<String, Object>> jobs = jdbcTemplate.queryForList(
+                    "SELECT id, skills FROM job_posts WHERE id > ? ORDER BY id LIMIT ?", afterId, BACKFILL_BATCH_SIZE);
+            if (jobs.isEmpty()) {
+                break;
+            }
+            List<Object[]> rows = new ArrayList<>();
+            for (Map<String, Object> job : jobs) {
+                UUID jobId = (UUID) job.get("id");
+                String skills = (String) job.get("skills");
+                if (skills == null || skills.isBlank()) {
+                    continue;
+                }
+                List<String> parsed;
+                try {
+                    parsed = objectMapper.readValue(skills, SKILL_LIST);
+                } catch (Exception e) {
+                    malformed++;
+                    continue;
+                }
+                Set<String> canonical = new HashSet<>();
+                for (String skill : parsed) {
+                    String token = JobPost.canonicalizeSkill(skill);
+                    if (token != null && canonical.add(token)) {
+                        rows.add(new Object[]{jobId, token});
+                    }
+                }
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO job_post_skills (job_post_id, skill) VALUES (?, ?) ON CONFLICT DO NOTHING", rows);
+                tokens += rows.size();
+            }
+            afterId = (UUID) jobs.get(jobs.size() - 1).get("id");
+        }
+
+        jdbcTemplate.update("INSERT INTO schema_steps (name) VALUES (?) ON CONFLICT DO NOTHING", SKILL_BACKFILL_STEP);
+        if (malformed > 0) {
+            logger.warn("Skipped {} jobs whose skills are not a JSON array of strings", malformed);
+        }
+        logger.info("Backfilled {} job skill tokens", tokens);
+    }
+
+    private static boolean columnExists(JdbcTemplate jdbcTemplate, String table, String column) {
+        Integer found = jdbcTemplate.queryForObject("""
+            SELECT count(*) FROM information_schema.columns
+            WHERE table_schema = current_schema() AND table_name = ? AND column_name = ?
+            """, Integer.class, table, column);
+        return found != null && found > 0;
+    }
+
+    /**
+     * Builds the index without blocking writes. A concurrent build that was interrupted leaves an invalid index
+     * behind, which IF NOT EXISTS would then skip forever, so an invalid one is dropped and rebuilt.
+     */
+    private static void createIndexConcurrently(JdbcTemplate jdbcTemplate, String name, String ddl) {
+        List<Boolean> valid = jdbcTemplate.queryForList("""
+            SELECT i.indisvalid FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indexrelid
+            WHERE c.relname = ? AND c.relnamespace = current_schema()::regnamespace
+            """, Boolean.class, name);
+        if (!valid.isEmpty() && valid.get(0)) {
+            return;
+        }
+        if (!valid.isEmpty()) {
+            logger.warn("Rebuilding invalid index {}", name);
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+        }
+        // CONCURRENTLY cannot run inside a transaction; JdbcTemplate outside one runs in autocommit
+        jdbcTemplate.execute(ddl);
+    }
+}
@@ -0,0 +1,80 @@
+package com.jobos.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * When request handling runs on virtual threads, streams JFR {@code jdk.VirtualThreadPinned} events
+ * and reports the ones whose stack passes through our code, so a blocking call that pins its carrier
+ * thread shows up in the log and in the {@code virtual.threads.pinned} counter.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String OUR_PACKAGE = "com.jobos.";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${diagnostics.virtual-threads.pinning-threshold-ms:20}") long thresholdMillis
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::report);
+        stream.startAsync();
+        logger.info("Virtual threads enabled; reporting carrier pinning longer than {} ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void report(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return;
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        RecordedFrame ourFrame = frames.stream()
+                .filter(frame -> frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(OUR_PACKAGE))
+                .findFirst()
+                .orElse(null);
+        if (ourFrame == null) {
+            return;
+        }
+
+        String site = ourFrame.getMethod().getType().getName() + "." + ourFrame.getMethod().getName();
+        Counter.builder("virtual.threads.pinned").tag("site", site).register(meterRegistry).increment();
+        logger.warn("Virtual thread pinned for {} ms at {}:\n    {}", event.getDuration().toMillis(), site,
+                frames.stream().limit(12)
+                        .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                        .collect(Collectors.joining("\n    ")));
+    }
+}
@@ -1,20 +1,28 @@
 package com.jobos.backend.controller;
 
 import com.jobos.backend.security.AuthenticatedUser;
+import com.jobos.backend.service.CVRenderService;
 import com.jobos.backend.service.CVService;
 import com.jobos.shared.dto.cv.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,9 +33,11 @@ import java.util.UUID;
 public class CVController {
 
     private final CVService cvService;
+    private final CVRenderService cvRenderService;
 
-    public CVController(CVService cvService) {
+    public CVController(CVService cvService, CVRenderService cvRenderService) {
         this.cvService = cvService;
+        this.cvRenderService = cvRenderService;
     }
 
     @PostMapping
@@ -123,6 +133,21 @@ public class CVController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping(value = "/{cvId}/sections/{sectionId}/content", consumes = {"application/json-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Patch section content", description = "Apply RFC 6902 JSON Patch operations to the section content. Requires If-Match with the section version; the new version is returned as the ETag.")
+    public ResponseEntity<Void> patchSectionContent(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable String cvId,
+            @PathVariable String sectionId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody List<JsonPatchOperation> operations) {
+        UUID userId = user.getUserId();
+        UUID cvUUID = UUID.fromString(cvId);
+        UUID sectionUUID = UUID.fromString(sectionId);
+        long newVersion = cvService.patchSectionContent(cvUUID, sectionUUID, userId, parseVersion(ifMatch), operations);
+        return ResponseEntity.noContent().eTag(String.valueOf(newVersion)).build();
+    }
+
     @DeleteMapping("/{cvId}/sections/{sectionId}")
     @Operation(summary = "Delete section", description = "Delete a section from CV")
     public ResponseEntity<Void> deleteSection(
@@ -147,4 +172,50 @@ public class CVController {
         CVResponse response = cvService.reorderSections(cvUUID, userId, request);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/{cvId}/render")
+    @Operation(summary = "Render CV", description = "Render the CV with its template as PDF (default) or HTML. Unchanged CVs are served from cache; supports If-None-Match.")
+    public void renderCV(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable String cvId,
+            @RequestParam(defaultValue = "pdf") String format,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        UUID userId = user.getUserId();
+        UUID cvUUID = UUID.fromString(cvId);
+        CVRenderService.RenderSource source = cvRenderService.prepare(cvUUID, userId, CVRenderService.Format.fromValue(format));
+
+        // The ETag is the content hash, so a matching client copy is confirmed without rendering anything
+        String eTag = "\"" + source.contentHash() + "\"";
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (eTag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        CVRenderService.RenderedCv rendered = cvRenderService.render(source);
+        response.setContentType(rendered.format().getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename("cv-" + cvId + "." + rendered.format().getExtension())
+                .build()
+                .toString());
+        FileResponses.send(request, response, rendered.file(), rendered.size());
+    }
+
+    private static long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED, "If-Match header with the section version is required");
+        }
+        String version = ifMatch.trim();
+        if (version.startsWith("W/")) {
+            version = version.substring(2);
+        }
+        version = version.replace("\"", "");
+        try {
+            return Long.parseLong(version);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid If-Match header");
+        }
+    }
 }
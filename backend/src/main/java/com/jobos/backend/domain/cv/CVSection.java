@@ -37,6 +37,10 @@ public class CVSection {
     @Column(name = "is_visible", nullable = false)
     private Boolean isVisible = true;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -104,4 +108,8 @@ public class CVSection {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -4,6 +4,10 @@ import com.jobos.backend.domain.user.User;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -11,6 +15,7 @@ import java.util.UUID;
     @Index(name = "idx_poster_id", columnList = "poster_id"),
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_created_at", columnList = "created_at"),
+    @Index(name = "idx_status_created_id", columnList = "status,created_at,id"),
     @Index(name = "idx_poster_status_created", columnList = "poster_id,status,created_at"),
     @Index(name = "idx_location", columnList = "location"),
     @Index(name = "idx_job_type", columnList = "job_type"),
@@ -57,6 +62,16 @@ public class JobPost {
     @Column(columnDefinition = "TEXT")
     private String skills;
 
+    // Canonical skill tokens mirrored from the skills JSON so skill filters can use an index
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(
+        name = "job_post_skills",
+        joinColumns = @JoinColumn(name = "job_post_id"),
+        indexes = @Index(name = "idx_job_post_skills_skill", columnList = "skill,job_post_id")
+    )
+    @Column(name = "skill", nullable = false, length = 100)
+    private Set<String> skillTokens = new HashSet<>();
+
     @Column(columnDefinition = "TEXT", nullable = false)
     private String description;
 
@@ -75,10 +90,12 @@ public class JobPost {
     @Column(nullable = false, length = 20)
     private JobStatus status = JobStatus.DRAFT;
 
-    @Column(nullable = false)
+    // Maintained by JobViewCounter with relative updates; entity saves must not write it back
+    @Column(nullable = false, updatable = false)
     private Integer viewCount = 0;
 
-    @Column(nullable = false)
+    // Maintained with atomic increments in JobPostRepository; entity saves must not write it back
+    @Column(nullable = false, updatable = false)
     private Integer applicationCount = 0;
 
     @Column(nullable = false, updatable = false)
@@ -207,6 +224,34 @@ public class JobPost {
         this.skills = skills;
     }
 
+    public Set<String> getSkillTokens() {
+        return skillTokens;
+    }
+
+    public void replaceSkillTokens(Collection<String> skills) {
+        skillTokens.clear();
+        if (skills == null) {
+            return;
+        }
+        for (String skill : skills) {
+            String token = canonicalizeSkill(skill);
+            if (token != null) {
+                skillTokens.add(token);
+            }
+        }
+    }
+
+    public static String canonicalizeSkill(String skill) {
+        if (skill == null) {
+            return null;
+        }
+        String token = skill.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (token.isEmpty()) {
+            return null;
+        }
+        return token.length() > 100 ? token.substring(0, 100) : token;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -294,12 +339,4 @@ public class JobPost {
     public void setClosedAt(LocalDateTime closedAt) {
         this.closedAt = closedAt;
     }
-
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
-    public void incrementApplicationCount() {
-        this.applicationCount++;
-    }
 }
@@ -0,0 +1,7 @@
+package com.jobos.backend.domain.notification;
+
+public enum PushOutboxStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
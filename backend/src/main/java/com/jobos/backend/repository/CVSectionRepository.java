@@ -2,10 +2,19 @@ package com.jobos.backend.repository;
 
 import com.jobos.backend.domain.cv.CVSection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CVSectionRepository extends JpaRepository<CVSection, UUID> {
+public interface CVSectionRepository extends JpaRepository<CVSection, UUID>, CVSectionRepositoryCustom {
+
+    List<CVSection> findByCvIdOrderByOrderIndexAsc(UUID cvId);
+
+    @Query("SELECT s.version FROM CVSection s WHERE s.id = :sectionId AND s.cv.id = :cvId")
+    Optional<Long> findVersionByIdAndCvId(@Param("sectionId") UUID sectionId, @Param("cvId") UUID cvId);
 }
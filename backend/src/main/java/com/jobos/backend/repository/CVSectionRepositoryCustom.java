@@ -0,0 +1,30 @@
+package com.jobos.backend.repository;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+public interface CVSectionRepositoryCustom {
+
+    enum ContentPatchOp { ADD, REMOVE, REPLACE, MOVE, COPY, TEST }
+
+    /**
+     * One parsed JSON Patch operation. Pointers are already split into unescaped segments (empty for the root)
+     * and {@code value} is the JSON text of the operation's value.
+     */
+    record ContentPatch(ContentPatchOp op, List<String> path, List<String> from, String value) {
+    }
+
+    /**
+     * Sets each section's order_index to its position in {@code orderedSectionIds} with a single UPDATE.
+     * Only sections belonging to {@code cvId} are touched; returns the number of rows updated.
+     */
+    int updateOrderIndexes(UUID cvId, List<UUID> orderedSectionIds);
+
+    /**
+     * Applies {@code operations} to the section's jsonb content inside PostgreSQL with a single UPDATE guarded by
+     * {@code expectedVersion}. Returns the new version, or empty when nothing was written: the section is missing,
+     * its version moved on, or an operation could not be applied (missing path or failed test).
+     */
+    OptionalLong patchContent(UUID cvId, UUID sectionId, long expectedVersion, List<ContentPatch> operations);
+}
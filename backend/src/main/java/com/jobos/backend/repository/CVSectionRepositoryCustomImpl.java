@@ -0,0 +1,116 @@
+package com.jobos.backend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+public class CVSectionRepositoryCustomImpl implements CVSectionRepositoryCustom {
+
+    private static final String[] NO_PATH = new String[0];
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CVSectionRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int updateOrderIndexes(UUID cvId, List<UUID> orderedSectionIds) {
+        if (orderedSectionIds.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "UPDATE cv_section s SET order_index = v.order_index, version = s.version + 1 FROM (VALUES ");
+        Object[] args = new Object[orderedSectionIds.size() * 2 + 1];
+        for (int i = 0; i < orderedSectionIds.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(CAST(? AS uuid), CAST(? AS integer))");
+            args[i * 2] = orderedSectionIds.get(i);
+            args[i * 2 + 1] = i;
+        }
+        sql.append(") AS v(id, order_index) WHERE s.id = v.id AND s.cv_id = ?");
+        args[args.length - 1] = cvId;
+
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+
+    @Override
+    public OptionalLong patchContent(UUID cvId, UUID sectionId, long expectedVersion, List<ContentPatch> operations) {
+        // Each operation wraps the previous document in a sub-select exposing it as d.doc together with its own
+        // bound path (d.p), parent path (d.pp) and value (d.v). An operation that cannot be applied yields NULL,
+        // which propagates outwards and turns the UPDATE into a no-op.
+        String document = "c.content";
+        List<Object> args = new ArrayList<>();
+        for (ContentPatch operation : operations) {
+            List<String> path = operation.path();
+            String docExpression = operation.op() == ContentPatchOp.MOVE ? "x.doc #- x.f" : "x.doc";
+            String valueExpression = operation.op() == ContentPatchOp.MOVE || operation.op() == ContentPatchOp.COPY
+                    ? "x.doc #> x.f" : "x.v";
+
+            document = "(SELECT " + expression(operation.op(), path)
+                    + " FROM (SELECT " + docExpression + " AS doc, x.p, x.pp, " + valueExpression + " AS v"
+                    + " FROM (SELECT " + document + " AS doc, CAST(? AS text[]) AS p, CAST(? AS text[]) AS pp,"
+                    + " CAST(? AS text[]) AS f, CAST(? AS jsonb) AS v) x) d)";
+            args.add(path.toArray(NO_PATH));
+            args.add(path.isEmpty() ? NO_PATH : path.subList(0, path.size() - 1).toArray(NO_PATH));
+            args.add(operation.from() != null ? operation.from().toArray(NO_PATH) : NO_PATH);
+            args.add(operation.value() != null ? operation.value() : "null");
+        }
+
+        String sql = "UPDATE cv_section s SET content = patched.doc, version = s.version + 1"
+                + " FROM (SELECT c.id, " + document + " AS doc FROM cv_section c"
+                + " WHERE c.id = ? AND c.cv_id = ? AND c.version = ?) patched"
+                + " WHERE s.id = patched.id AND s.version = ? AND patched.doc IS NOT NULL"
+                + " RETURNING s.version";
+        args.add(sectionId);
+        args.add(cvId);
+        args.add(expectedVersion);
+        args.add(expectedVersion);
+
+        List<Long> versions = jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong(1), args.toArray());
+        return versions.isEmpty() ? OptionalLong.empty() : OptionalLong.of(versions.get(0));
+    }
+
+    private static String expression(ContentPatchOp op, List<String> path) {
+        return switch (op) {
+            case ADD, MOVE, COPY -> addExpression(path);
+            case REMOVE -> "CASE WHEN d.doc #> d.p IS NULL THEN NULL ELSE d.doc #- d.p END";
+            case REPLACE -> path.isEmpty()
+                    ? "CASE WHEN d.doc IS NULL THEN NULL ELSE d.v END"
+                    : "CASE WHEN d.doc #> d.p IS NULL THEN NULL ELSE jsonb_set(d.doc, d.p, d.v, false) END";
+            case TEST -> "CASE WHEN d.doc #> d.p = d.v THEN d.doc END";
+        };
+    }
+
+    /**
+     * RFC 6902 "add": inserts into an array at an index no greater than its length (or appends for "-"), otherwise
+     * sets an object member. The parent must already exist.
+     */
+    private static String addExpression(List<String> path) {
+        if (path.isEmpty()) {
+            return "CASE WHEN d.doc IS NULL THEN NULL ELSE d.v END";
+        }
+
+        String last = path.get(path.size() - 1);
+        String arrayBranch;
+        if ("-".equals(last)) {
+            arrayBranch = path.size() == 1
+                    ? "d.doc || jsonb_build_array(d.v)"
+                    : "jsonb_set(d.doc, d.pp, (d.doc #> d.pp) || jsonb_build_array(d.v))";
+        } else if (last.matches("0|[1-9][0-9]{0,8}")) {
+            // jsonb_insert appends when the index is past the end; RFC 6902 makes that an error
+            arrayBranch = "CASE WHEN CAST(d.p[cardinality(d.p)] AS integer) <= jsonb_array_length(d.doc #> d.pp)"
+                    + " THEN jsonb_insert(d.doc, d.p, d.v) END";
+        } else {
+            arrayBranch = "NULL";
+        }
+
+        return "CASE WHEN d.v IS NULL THEN NULL"
+                + " WHEN jsonb_typeof(d.doc #> d.pp) = 'array' THEN " + arrayBranch
+                + " WHEN jsonb_typeof(d.doc #> d.pp) = 'object' THEN jsonb_set(d.doc, d.p, d.v, true)"
+                + " END";
+    }
+}
@@ -7,8 +7,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,4 +24,29 @@ public interface JobPostRepository extends JpaRepository<JobPost, UUID>, JpaSpec
     Page<JobPost> findByPosterAndStatus(User poster, JobStatus status, Pageable pageable);
     
     Optional<JobPost> findByIdAndPoster(UUID id, User poster);
+
+    @Modifying
+    @Query("UPDATE JobPost j SET j.applicationCount = j.applicationCount + 1 WHERE j.id = :id")
+    int incrementApplicationCount(@Param("id") UUID id);
+
+    /**
+     * Locks the next batch of job posts in id order against concurrent count increments. The lock must be taken
+     * in its own statement before {@link #reconcileApplicationCounts(List)}: under READ COMMITTED that later
+     * statement then counts every application whose increment committed before the lock, and increments still
+     * waiting on the lock are applied on top of the repaired value instead of being overwritten by it.
+     */
+    @Query(value = "SELECT id FROM job_posts WHERE id > :afterId ORDER BY id LIMIT :limit FOR NO KEY UPDATE",
+            nativeQuery = true)
+    List<UUID> lockBatchForReconcile(@Param("afterId") UUID afterId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+            UPDATE job_posts j SET application_count = c.total
+            FROM (SELECT p.id, COUNT(a.id) AS total
+                  FROM job_posts p LEFT JOIN applications a ON a.job_post_id = p.id
+                  WHERE p.id IN (:ids)
+                  GROUP BY p.id) c
+            WHERE j.id = c.id AND j.application_count <> c.total
+            """, nativeQuery = true)
+    int reconcileApplicationCounts(@Param("ids") List<UUID> ids);
 }
@@ -0,0 +1,35 @@
+package com.jobos.backend.repository;
+
+import com.jobos.backend.domain.notification.PushOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, UUID> {
+
+    // SKIP LOCKED lets several dispatcher instances claim disjoint batches without blocking each other
+    @Query(value = """
+            SELECT * FROM push_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<PushOutbox> lockDue(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE PushOutbox p SET p.nextAttemptAt = :leaseUntil WHERE p.id IN :ids")
+    int extendLease(@Param("ids") Collection<UUID> ids, @Param("leaseUntil") Instant leaseUntil);
+
+    @Modifying
+    @Query("DELETE FROM PushOutbox p WHERE p.status = com.jobos.backend.domain.notification.PushOutboxStatus.SENT AND p.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") Instant cutoff);
+}
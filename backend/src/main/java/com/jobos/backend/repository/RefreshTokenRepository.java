@@ -3,6 +3,8 @@ package com.jobos.backend.repository;
 import com.jobos.backend.domain.user.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -12,6 +14,9 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
     Optional<RefreshToken> findByTokenHash(String tokenHash);
     
     Optional<RefreshToken> findBySessionId(UUID sessionId);
+
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.user WHERE r.sessionId = :sessionId")
+    Optional<RefreshToken> findWithUserBySessionId(@Param("sessionId") UUID sessionId);
     
     @Modifying
     @Transactional
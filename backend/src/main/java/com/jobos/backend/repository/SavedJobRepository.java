@@ -8,9 +8,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -23,6 +26,9 @@ public interface SavedJobRepository extends JpaRepository<SavedJob, UUID> {
     
     Optional<SavedJob> findByUserAndJobPost(User user, JobPost jobPost);
     
+    @Query("SELECT s.jobPost.id FROM SavedJob s WHERE s.user.id = :userId AND s.jobPost.id IN :jobPostIds")
+    Set<UUID> findSavedJobPostIds(@Param("userId") UUID userId, @Param("jobPostIds") Collection<UUID> jobPostIds);
+    
     @Query("SELECT COUNT(s) FROM SavedJob s WHERE s.user = :user")
     long countByUser(User user);
 }
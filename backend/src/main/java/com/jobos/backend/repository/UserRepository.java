@@ -2,11 +2,19 @@ package com.jobos.backend.repository;
 
 import com.jobos.backend.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = null WHERE u.fcmToken IN :tokens")
+    int clearFcmTokens(@Param("tokens") Collection<String> tokens);
 }
@@ -4,6 +4,8 @@ import com.jobos.backend.domain.cv.CVTemplate;
 import com.jobos.backend.domain.cv.UserTemplateUnlock;
 import com.jobos.backend.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +20,9 @@ public interface UserTemplateUnlockRepository extends JpaRepository<UserTemplate
     List<UserTemplateUnlock> findByUser(User user);
     
     boolean existsByUserAndTemplate(User user, CVTemplate template);
+
+    boolean existsByUserIdAndTemplateId(UUID userId, UUID templateId);
+
+    @Query("SELECT u.template.id FROM UserTemplateUnlock u WHERE u.user.id = :userId")
+    List<UUID> findTemplateIdsByUserId(@Param("userId") UUID userId);
 }
@@ -0,0 +1,76 @@
+package com.jobos.backend.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffers the request body so a filter can inspect it and the controller can still read it. At most
+ * {@code maxBytes + 1} bytes are read, so an oversized or chunked body cannot exhaust memory; callers must
+ * check {@link #exceedsLimit()} and reject the request rather than forward a truncated body.
+ */
+public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private final boolean exceedsLimit;
+
+    public CachedBodyHttpServletRequest(HttpServletRequest request, int maxBytes) throws IOException {
+        super(request);
+        byte[] read = request.getInputStream().readNBytes(maxBytes + 1);
+        this.exceedsLimit = read.length > maxBytes;
+        this.body = exceedsLimit ? new byte[0] : read;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public boolean exceedsLimit() {
+        return exceedsLimit;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream stream = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return stream.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read() {
+                return stream.read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                return stream.read(buffer, offset, length);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
@@ -0,0 +1,48 @@
+package com.jobos.backend.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Single-node bus: revocations are delivered in-process after commit.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.revocation-bus", havingValue = "memory")
+public class InMemorySessionRevocationBus implements SessionRevocationBus {
+
+    private final List<Consumer<SessionRevocation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(SessionRevocation revocation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(revocation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliver(revocation);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Consumer<SessionRevocation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onResync(Runnable listener) {
+        // Nothing can be missed in-process
+    }
+
+    private void deliver(SessionRevocation revocation) {
+        listeners.forEach(listener -> listener.accept(revocation));
+    }
+}
@@ -0,0 +1,168 @@
+package com.jobos.backend.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Revocation bus over PostgreSQL LISTEN/NOTIFY. {@code pg_notify} runs on the caller's transaction
+ * connection, so PostgreSQL delivers the notification only if that transaction commits. The listener
+ * holds its own connection outside the Hikari pool and probes it whenever it has been quiet for a while,
+ * since a half-open TCP connection would otherwise just look like a channel with nothing to say.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.revocation-bus", havingValue = "postgres", matchIfMissing = true)
+public class PostgresSessionRevocationBus implements SessionRevocationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresSessionRevocationBus.class);
+    private static final String CHANNEL = "session_revocations";
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+    private static final int POLL_MILLIS = 5000;
+    // Consecutive empty polls before the connection is probed, so a dead socket is noticed within about 15s
+    private static final int IDLE_POLLS_BEFORE_PROBE = 3;
+    // Bounds every blocking read on the listen connection, including the probe on a socket that never answers
+    private static final int SOCKET_TIMEOUT_SECONDS = 30;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Timer propagationTimer;
+    private final List<Consumer<SessionRevocation>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> resyncListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running = true;
+    private Thread listenerThread;
+
+    public PostgresSessionRevocationBus(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.propagationTimer = Timer.builder("auth.revocation.propagation")
+                .description("Delay between publishing a session revocation and receiving it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerThread = new Thread(this::listen, "session-revocation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public void publish(SessionRevocation revocation) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) rs -> { }, CHANNEL, revocation.encode());
+    }
+
+    @Override
+    public void subscribe(Consumer<SessionRevocation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onResync(Runnable listener) {
+        resyncListeners.add(listener);
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, connectionProperties())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnecting) {
+                    // Notifications sent while we were disconnected are lost
+                    resyncListeners.forEach(Runnable::run);
+                }
+                logger.info("Listening for session revocations");
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                int idlePolls = 0;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        idlePolls = 0;
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    } else if (++idlePolls >= IDLE_POLLS_BEFORE_PROBE) {
+                        idlePolls = 0;
+                        // Throws once the socket timeout expires on a dead connection, which reconnects and resyncs
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Session revocation listener disconnected: {}", e.getMessage());
+            }
+
+            reconnecting = true;
+            try {
+                Thread.sleep(RECONNECT_DELAY.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private Properties connectionProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        properties.setProperty("tcpKeepAlive", "true");
+        properties.setProperty("socketTimeout", Integer.toString(SOCKET_TIMEOUT_SECONDS));
+        return properties;
+    }
+
+    private void dispatch(String payload) {
+        try {
+            SessionRevocation revocation = SessionRevocation.decode(payload);
+            propagationTimer.record(Math.max(0, System.currentTimeMillis() - revocation.publishedAtMillis()), TimeUnit.MILLISECONDS);
+            listeners.forEach(listener -> listener.accept(revocation));
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring session revocation {}: {}", payload, e.getMessage());
+        }
+    }
+}
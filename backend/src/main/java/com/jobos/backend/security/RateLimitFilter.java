@@ -0,0 +1,146 @@
+package com.jobos.backend.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobos.backend.config.RateLimitProperties;
+import com.jobos.shared.dto.common.ApiResponse;
+import com.jobos.shared.dto.common.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Per-route token-bucket limiting for the unauthenticated auth endpoints, keyed by client IP and,
+ * for JSON bodies, by the submitted email. Runs ahead of JWT authentication so rejected requests
+ * never reach BCrypt or the database.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_INSPECTED_BODY_BYTES = 16 * 1024;
+
+    private record Route(String method, String path, TokenBucketLimiter ipLimiter, TokenBucketLimiter emailLimiter) {
+    }
+
+    private final List<Route> routes = new ArrayList<>();
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.enabled = properties.isEnabled();
+        this.objectMapper = objectMapper;
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            routes.add(new Route(
+                    rule.getMethod().toUpperCase(Locale.ROOT),
+                    rule.getPath(),
+                    rule.getIpCapacity() > 0
+                            ? new TokenBucketLimiter(properties.getSlotsPerRule(), rule.getIpCapacity(), rule.getIpRefillPerMinute())
+                            : null,
+                    rule.getEmailCapacity() > 0
+                            ? new TokenBucketLimiter(properties.getSlotsPerRule(), rule.getEmailCapacity(), rule.getEmailRefillPerMinute())
+                            : null
+            ));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || findRoute(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Route route = findRoute(request);
+
+        if (route.ipLimiter() != null) {
+            long waitMillis = route.ipLimiter().tryAcquire(request.getRemoteAddr());
+            if (waitMillis > 0) {
+                reject(request, response, waitMillis);
+                return;
+            }
+        }
+
+        HttpServletRequest forwarded = request;
+        if (route.emailLimiter() != null) {
+            // Bodies are read with a hard cap, never skipped: padding a login past the cap must not dodge the email limit
+            if (request.getContentLengthLong() > MAX_INSPECTED_BODY_BYTES) {
+                rejectTooLarge(request, response);
+                return;
+            }
+            CachedBodyHttpServletRequest cached = new CachedBodyHttpServletRequest(request, MAX_INSPECTED_BODY_BYTES);
+            if (cached.exceedsLimit()) {
+                rejectTooLarge(request, response);
+                return;
+            }
+            forwarded = cached;
+            String email = extractEmail(cached.getBody());
+            if (email != null) {
+                long waitMillis = route.emailLimiter().tryAcquire(email);
+                if (waitMillis > 0) {
+                    reject(request, response, waitMillis);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(forwarded, response);
+    }
+
+    private Route findRoute(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Route route : routes) {
+            if (route.path().equals(path) && route.method().equalsIgnoreCase(request.getMethod())) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            // Malformed bodies are rejected by the controller; only the IP limit applies to them
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitMillis) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitMillis + 999) / 1000);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeError(request, response, 429, "Too Many Requests",
+                "Too many requests. Please retry in " + retryAfterSeconds + " seconds.");
+    }
+
+    private void rejectTooLarge(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        writeError(request, response, 413, "Payload Too Large",
+                "Request body must not exceed " + MAX_INSPECTED_BODY_BYTES + " bytes.");
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, int status, String title,
+                            String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        ErrorResponse error = new ErrorResponse(status, title, message, request.getRequestURI());
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResponse.error(error, message)));
+        response.getWriter().flush();
+    }
+}
@@ -0,0 +1,139 @@
+package com.jobos.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobos.backend.domain.user.RefreshToken;
+import com.jobos.backend.domain.user.User;
+import com.jobos.backend.domain.user.UserRole;
+import com.jobos.backend.domain.user.UserStatus;
+import com.jobos.backend.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches session validity for the JWT filter so authenticated requests do not hit the database.
+ * Unknown and revoked sessions are cached too. Revocations evict immediately and again after the
+ * revoking transaction commits, and are broadcast to other instances over the {@link SessionRevocationBus}.
+ * The entry TTL bounds staleness if a broadcast is lost.
+ */
+@Component
+public class SessionCache {
+
+    public record Session(UUID userId, UserRole role, UserStatus status) {
+    }
+
+    private static final Session REVOKED = new Session(null, null, null);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Cache<UUID, Session> sessions;
+    private final AtomicLong revocations = new AtomicLong();
+    private final SessionRevocationBus revocationBus;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public SessionCache(
+            RefreshTokenRepository refreshTokenRepository,
+            SessionRevocationBus revocationBus,
+            MeterRegistry meterRegistry,
+            @Value("${auth.session-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${auth.session-cache.max-size:100000}") long maxSize,
+            @Value("${jwt.access-token-expiration:15}") long accessTokenExpirationMinutes
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        // An entry never outlives the access token that caused it to be loaded
+        Duration ttl = Duration.ofSeconds(Math.min(ttlSeconds, accessTokenExpirationMinutes * 60));
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sessions, "authSessions");
+
+        this.revocationBus = revocationBus;
+        revocationBus.subscribe(this::onRemoteRevocation);
+        revocationBus.onResync(this::evictAll);
+    }
+
+    /**
+     * Returns the session, or empty if it does not exist or has been revoked.
+     */
+    public Optional<Session> find(UUID sessionId) {
+        Session cached = sessions.getIfPresent(sessionId);
+        if (cached != null) {
+            return cached == REVOKED ? Optional.empty() : Optional.of(cached);
+        }
+
+        // A revocation that lands while we read must not be overwritten by what we read
+        long revocationsAtLoad = revocations.get();
+        Session loaded = refreshTokenRepository.findWithUserBySessionId(sessionId)
+                .map(SessionCache::toSession)
+                .orElse(REVOKED);
+        if (revocations.get() == revocationsAtLoad) {
+            sessions.put(sessionId, loaded);
+        }
+        return loaded == REVOKED ? Optional.empty() : Optional.of(loaded);
+    }
+
+    public void revokeSession(UUID sessionId) {
+        runNowAndAfterCommit(() -> evictSession(sessionId));
+        revocationBus.publish(new SessionRevocation(SessionRevocation.Scope.SESSION, sessionId, System.currentTimeMillis(), nodeId));
+    }
+
+    /**
+     * Evicts every cached session of the user; used for session wipes and account status changes.
+     */
+    public void revokeUser(UUID userId) {
+        runNowAndAfterCommit(() -> evictUser(userId));
+        revocationBus.publish(new SessionRevocation(SessionRevocation.Scope.USER, userId, System.currentTimeMillis(), nodeId));
+    }
+
+    private void onRemoteRevocation(SessionRevocation revocation) {
+        if (nodeId.equals(revocation.origin())) {
+            return;
+        }
+        switch (revocation.scope()) {
+            case SESSION -> evictSession(revocation.id());
+            case USER -> evictUser(revocation.id());
+        }
+    }
+
+    private void evictSession(UUID sessionId) {
+        revocations.incrementAndGet();
+        sessions.invalidate(sessionId);
+    }
+
+    private void evictUser(UUID userId) {
+        revocations.incrementAndGet();
+        sessions.asMap().values().removeIf(session -> userId.equals(session.userId()));
+    }
+
+    private void evictAll() {
+        revocations.incrementAndGet();
+        sessions.invalidateAll();
+    }
+
+    private static Session toSession(RefreshToken refreshToken) {
+        User user = refreshToken.getUser();
+        return new Session(user.getId(), user.getRole(), user.getStatus());
+    }
+
+    private static void runNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.jobos.backend.security;
+
+import java.util.UUID;
+
+/**
+ * A session or user-wide revocation announced to other backend instances.
+ * {@code publishedAtMillis} is the publisher's wall clock, used to measure propagation delay.
+ */
+public record SessionRevocation(Scope scope, UUID id, long publishedAtMillis, String origin) {
+
+    public enum Scope {
+        SESSION,
+        USER
+    }
+
+    String encode() {
+        return scope.name() + "|" + id + "|" + publishedAtMillis + "|" + origin;
+    }
+
+    static SessionRevocation decode(String payload) {
+        String[] parts = payload.split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed revocation payload: " + payload);
+        }
+        return new SessionRevocation(Scope.valueOf(parts[0]), UUID.fromString(parts[1]), Long.parseLong(parts[2]), parts[3]);
+    }
+}
@@ -0,0 +1,22 @@
+package com.jobos.backend.security;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries session revocations between backend instances so each node can evict its {@link SessionCache}.
+ * Selected with {@code auth.revocation-bus}: {@code postgres} (default) or {@code memory} for single-node runs.
+ */
+public interface SessionRevocationBus {
+
+    /**
+     * Publishes the revocation. Implementations deliver it only if the current transaction commits.
+     */
+    void publish(SessionRevocation revocation);
+
+    void subscribe(Consumer<SessionRevocation> listener);
+
+    /**
+     * Called when revocations may have been missed, e.g. after a listener reconnect.
+     */
+    void onResync(Runnable listener);
+}
@@ -0,0 +1,89 @@
+package com.jobos.backend.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets in a fixed array of slots. Keys hash onto slots, so memory stays constant
+ * no matter how many distinct keys arrive; colliding keys share a bucket, which can only make
+ * limiting stricter. Each slot packs the last refill time (upper 42 bits, millis since creation)
+ * and the token balance in thousandths of a token (lower 22 bits).
+ */
+public class TokenBucketLimiter {
+
+    private static final int TOKEN_BITS = 22;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI = 1000;
+    static final int MAX_CAPACITY = (int) (TOKEN_MASK / MILLI);
+
+    private final AtomicLongArray slots;
+    private final int slotMask;
+    private final long capacityMilli;
+    private final long millisPerToken;
+    private final LongSupplier clock;
+    private final long epochMillis;
+
+    public TokenBucketLimiter(int slotCount, int capacity, double refillPerMinute) {
+        this(slotCount, capacity, refillPerMinute, System::currentTimeMillis);
+    }
+
+    TokenBucketLimiter(int slotCount, int capacity, double refillPerMinute, LongSupplier clock) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Bucket capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        if (refillPerMinute <= 0) {
+            throw new IllegalArgumentException("Refill rate must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.slotMask = size - 1;
+        this.capacityMilli = capacity * MILLI;
+        this.millisPerToken = Math.max(1, Math.round(60_000 / refillPerMinute));
+        this.clock = clock;
+        this.epochMillis = clock.getAsLong() - 1;
+    }
+
+    /**
+     * Takes one token for the key. Returns 0 if allowed, otherwise the milliseconds until a token is available.
+     */
+    public long tryAcquire(String key) {
+        int slot = spread(key.hashCode()) & slotMask;
+        long now = clock.getAsLong() - epochMillis;
+        while (true) {
+            long current = slots.get(slot);
+            long tokens;
+            long last;
+            if (current == 0) {
+                tokens = capacityMilli;
+                last = now;
+            } else {
+                last = current >>> TOKEN_BITS;
+                long elapsed = Math.max(0, now - last);
+                long gained = elapsed * MILLI / millisPerToken;
+                tokens = (current & TOKEN_MASK) + gained;
+                if (tokens >= capacityMilli) {
+                    tokens = capacityMilli;
+                    last = now;
+                } else {
+                    // Only the time converted into tokens is consumed (rounded up, so it never over-credits);
+                    // the remainder carries over, otherwise frequent denied calls would keep the bucket empty
+                    last += (gained * millisPerToken + MILLI - 1) / MILLI;
+                }
+            }
+
+            boolean allowed = tokens >= MILLI;
+            long remaining = allowed ? tokens - MILLI : tokens;
+            long next = (last << TOKEN_BITS) | remaining;
+            if (slots.compareAndSet(slot, current, next)) {
+                return allowed ? 0 : (MILLI - remaining) * millisPerToken / MILLI + 1;
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+}
@@ -1,10 +1,9 @@
 package com.jobos.backend.security.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jobos.backend.domain.user.UserRole;
-import com.jobos.backend.repository.RefreshTokenRepository;
-import com.jobos.backend.repository.UserRepository;
+import com.jobos.backend.domain.user.UserStatus;
 import com.jobos.backend.security.AuthenticatedUser;
+import com.jobos.backend.security.SessionCache;
 import com.jobos.shared.dto.common.ApiResponse;
 import com.jobos.shared.dto.common.ErrorResponse;
 import jakarta.servlet.FilterChain;
@@ -20,20 +19,19 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final SessionCache sessionCache;
     private final ObjectMapper objectMapper;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserRepository userRepository, RefreshTokenRepository refreshTokenRepository, ObjectMapper objectMapper) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, SessionCache sessionCache, ObjectMapper objectMapper) {
         this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.sessionCache = sessionCache;
         this.objectMapper = objectMapper;
     }
 
@@ -53,14 +51,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String token = authHeader.substring(7);
-            
-            if (jwtUtil.validateToken(token)) {
-                UUID userId = jwtUtil.getUserIdFromToken(token);
-                UUID sessionId = jwtUtil.getSessionIdFromToken(token);
-                String email = jwtUtil.getEmailFromToken(token);
-                String role = jwtUtil.getRoleFromToken(token);
+            // Refresh tokens carry no role claim and must not authenticate API calls
+            Optional<JwtClaims> claims = jwtUtil.parseClaims(token).filter(parsed -> parsed.role() != null);
+
+            if (claims.isPresent()) {
+                UUID userId = claims.get().userId();
+                UUID sessionId = claims.get().sessionId();
+                String email = claims.get().email();
 
-                if (refreshTokenRepository.findBySessionId(sessionId).isEmpty()) {
+                Optional<SessionCache.Session> session = sessionId != null ? sessionCache.find(sessionId) : Optional.empty();
+                if (session.isEmpty() || !session.get().userId().equals(userId)) {
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     response.setContentType("application/json");
                     response.setCharacterEncoding("UTF-8");
@@ -77,17 +77,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     return;
                 }
 
-                userRepository.findById(userId).ifPresent(user -> {
-                    UserRole userRole = UserRole.valueOf(role);
-                    AuthenticatedUser authenticatedUser = new AuthenticatedUser(userId, email, userRole);
+                if (session.get().status() == UserStatus.ACTIVE) {
+                    AuthenticatedUser authenticatedUser = new AuthenticatedUser(userId, email, session.get().role());
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             authenticatedUser,
                             null,
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
+                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + session.get().role().name()))
                     );
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
-                });
+                }
             }
             
             filterChain.doFilter(request, response);
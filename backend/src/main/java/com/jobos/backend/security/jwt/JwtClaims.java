@@ -0,0 +1,17 @@
+package com.jobos.backend.security.jwt;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a verified token. Email and role are only present on access tokens.
+ */
+public record JwtClaims(
+        UUID userId,
+        UUID sessionId,
+        String email,
+        String role,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+}
@@ -9,12 +9,15 @@ import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
     private final SecretKey secretKey;
+    // Immutable and thread-safe, so one instance serves every request
+    private final JwtParser jwtParser;
     private final long accessTokenExpirationMinutes;
     private final long refreshTokenExpirationDays;
 
@@ -24,6 +27,7 @@ public class JwtUtil {
             @Value("${jwt.refresh-token-expiration:30}") long refreshTokenExpirationDays
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
         this.accessTokenExpirationMinutes = accessTokenExpirationMinutes;
         this.refreshTokenExpirationDays = refreshTokenExpirationDays;
     }
@@ -57,11 +61,29 @@ public class JwtUtil {
     }
 
     public Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Verifies the token once and returns all claims the auth path needs, or empty if the token is invalid.
+     */
+    public Optional<JwtClaims> parseClaims(String token) {
+        Claims claims;
+        try {
+            claims = parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        String sessionId = claims.get("sessionId", String.class);
+        return Optional.of(new JwtClaims(
+                UUID.fromString(claims.getSubject()),
+                sessionId != null ? UUID.fromString(sessionId) : null,
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        ));
     }
 
     public UUID getUserIdFromToken(String token) {
@@ -12,6 +12,8 @@ import com.jobos.backend.repository.ApplicationStatusHistoryRepository;
 import com.jobos.backend.repository.JobPostRepository;
 import com.jobos.backend.repository.UserRepository;
 import com.jobos.shared.dto.application.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -33,18 +35,21 @@ public class ApplicationService {
     private final JobPostRepository jobPostRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final Counter submittedCounter;
 
     public ApplicationService(
             ApplicationRepository applicationRepository,
             ApplicationStatusHistoryRepository statusHistoryRepository,
             JobPostRepository jobPostRepository,
             UserRepository userRepository,
-            NotificationService notificationService) {
+            NotificationService notificationService,
+            MeterRegistry meterRegistry) {
         this.applicationRepository = applicationRepository;
         this.statusHistoryRepository = statusHistoryRepository;
         this.jobPostRepository = jobPostRepository;
         this.userRepository = userRepository;
         this.notificationService = notificationService;
+        this.submittedCounter = Counter.builder("applications.submitted").register(meterRegistry);
     }
 
     @Transactional
@@ -79,8 +84,7 @@ public class ApplicationService {
         application = applicationRepository.saveAndFlush(application);
         logger.info("Application {} created successfully for job {} by seeker {}", application.getId(), jobPost.getId(), seekerId);
 
-        jobPost.setApplicationCount(jobPost.getApplicationCount() + 1);
-        jobPostRepository.save(jobPost);
+        jobPostRepository.incrementApplicationCount(jobPost.getId());
 
         notificationService.createNotification(
                 jobPost.getPoster(),
@@ -89,6 +93,7 @@ public class ApplicationService {
                 seeker.getFirstName() + " " + seeker.getLastName() + " applied to your job",
                 "/applications/" + application.getId()
         );
+        submittedCounter.increment();
 
         return mapToApplicationResponse(application);
     }
@@ -10,15 +10,17 @@ import com.jobos.backend.exception.InvalidTokenException;
 import com.jobos.backend.exception.ResourceNotFoundException;
 import com.jobos.backend.repository.RefreshTokenRepository;
 import com.jobos.backend.repository.UserRepository;
+import com.jobos.backend.security.SessionCache;
 import com.jobos.backend.security.jwt.JwtUtil;
 import com.jobos.shared.dto.auth.AuthResponse;
 import com.jobos.shared.dto.auth.LoginRequest;
 import com.jobos.shared.dto.auth.RegisterRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -34,22 +36,28 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
+    private final SessionCache sessionCache;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthService(
             UserRepository userRepository,
             RefreshTokenRepository refreshTokenRepository,
-            PasswordEncoder passwordEncoder,
-            JwtUtil jwtUtil
+            PasswordHashingService passwordHashingService,
+            JwtUtil jwtUtil,
+            SessionCache sessionCache,
+            PlatformTransactionManager transactionManager
     ) {
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.jwtUtil = jwtUtil;
+        this.sessionCache = sessionCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional
+    // Not @Transactional: BCrypt runs before the transaction so no pooled connection is held while hashing
     public AuthResponse register(RegisterRequest request) {
         logger.info("Registration attempt for email: {}", request.getEmail());
         
@@ -65,20 +73,24 @@ public class AuthService {
             throw new IllegalArgumentException("Invalid role. Must be SEEKER or POSTER");
         }
 
-        User user = new User();
-        user.setEmail(request.getEmail());
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
-        user.setRole(role);
-        user.setStatus(UserStatus.ACTIVE);
+        String passwordHash = passwordHashingService.encode(request.getPassword());
 
-        user = userRepository.save(user);
-        logger.info("User registered successfully: {} with role: {}", user.getId(), role);
+        return transactionTemplate.execute(status -> {
+            User user = new User();
+            user.setEmail(request.getEmail());
+            user.setPasswordHash(passwordHash);
+            user.setRole(role);
+            user.setStatus(UserStatus.ACTIVE);
 
-        UUID sessionId = UUID.randomUUID();
-        return generateAuthResponse(user, sessionId);
+            user = userRepository.save(user);
+            logger.info("User registered successfully: {} with role: {}", user.getId(), role);
+
+            UUID sessionId = UUID.randomUUID();
+            return generateAuthResponse(user, sessionId);
+        });
     }
 
-    @Transactional
+    // Not @Transactional for the same reason as register; the session row is written by a single save
     public AuthResponse login(LoginRequest request) {
         logger.info("Login attempt for email: {}", request.getEmail());
         
@@ -88,7 +100,7 @@ public class AuthService {
                     return new InvalidCredentialsException("Invalid email or password");
                 });
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPasswordHash())) {
             logger.warn("Login failed - invalid password for user: {}", request.getEmail());
             throw new InvalidCredentialsException("Invalid email or password");
         }
@@ -139,6 +151,7 @@ public class AuthService {
     public void logout(UUID sessionId) {
         logger.info("Logout for session: {}", sessionId);
         refreshTokenRepository.deleteBySessionId(sessionId);
+        sessionCache.revokeSession(sessionId);
     }
 
     private AuthResponse generateAuthResponse(User user, UUID sessionId) {
@@ -168,7 +181,7 @@ public class AuthService {
         return response;
     }
 
-    private String hashToken(String token) {
+    String hashToken(String token) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
@@ -0,0 +1,493 @@
+package com.jobos.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobos.backend.domain.cv.CV;
+import com.jobos.backend.domain.cv.CVSection;
+import com.jobos.backend.exception.ServiceOverloadedException;
+import com.jobos.backend.repository.CVRepository;
+import com.jobos.backend.repository.CVSectionRepository;
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Renders a CV with its template's style to HTML or PDF through Thymeleaf. Output files are cached on disk under
+ * a SHA-256 of everything that affects the rendering, so an unchanged CV is served straight from the file.
+ * Rendering runs on a small bounded pool and writes to disk as it goes; when the queue is full callers get a 503.
+ */
+@Service
+public class CVRenderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CVRenderService.class);
+
+    // Bump whenever the cv/ templates or the view model change so cached files are not reused
+    private static final String RENDERER_VERSION = "1";
+    private static final String DOCUMENT_TEMPLATE = "cv/cv-document";
+    private static final Pattern SAFE_STYLE_VALUE = Pattern.compile("[#\\w\\s,.\\-%'\"]{1,64}");
+    private static final Map<String, String> DEFAULT_STYLE = Map.of(
+            "primaryColor", "#1a237e",
+            "secondaryColor", "#3949ab",
+            "accentColor", "#7986cb",
+            "fontFamily", "Helvetica, sans-serif",
+            "headingFont", "Helvetica, sans-serif",
+            "fontSize", "10pt"
+    );
+
+    public enum Format {
+        PDF("pdf", MediaType.APPLICATION_PDF),
+        HTML("html", MediaType.TEXT_HTML);
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public static Format fromValue(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported format: " + value);
+        }
+    }
+
+    public record RenderedCv(Path file, long size, String contentHash, Format format) {
+    }
+
+    /**
+     * A section's JSON content as a tree the template can walk: "text" leaves, "list" items and labelled "fields".
+     */
+    public record ContentNode(String kind, String label, String text, List<ContentNode> children) {
+    }
+
+    public record SectionView(String title, String sectionType, ContentNode content) {
+    }
+
+    /**
+     * The raw rows a rendering is built from, loaded and hashed up front so cache hits and conditional requests
+     * can be answered from {@link #contentHash()} without parsing section content.
+     */
+    public record RenderSource(String contentHash, Format format, String title, String styleConfig,
+                               List<SourceSection> sections) {
+    }
+
+    public record SourceSection(String title, String sectionType, String content) {
+    }
+
+    private final CVRepository cvRepository;
+    private final CVSectionRepository cvSectionRepository;
+    private final CVTemplateCatalog cvTemplateCatalog;
+    private final TemplateEngine templateEngine;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentHashMap<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    private final Path cacheDir;
+    private final long cacheMaxBytes;
+    private final long timeoutSeconds;
+    private final long retryAfterSeconds;
+    private final Timer renderTimer;
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+    private final Counter rejectedCounter;
+
+    public CVRenderService(
+            CVRepository cvRepository,
+            CVSectionRepository cvSectionRepository,
+            CVTemplateCatalog cvTemplateCatalog,
+            TemplateEngine templateEngine,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${cv-render.cache-dir:${java.io.tmpdir}/jobos-cv-renders}") String cacheDir,
+            @Value("${cv-render.cache-max-bytes:536870912}") long cacheMaxBytes,
+            @Value("${cv-render.threads:2}") int threads,
+            @Value("${cv-render.queue-capacity:16}") int queueCapacity,
+            @Value("${cv-render.timeout-seconds:30}") long timeoutSeconds,
+            @Value("${cv-render.retry-after-seconds:5}") long retryAfterSeconds
+    ) throws IOException {
+        this.cvRepository = cvRepository;
+        this.cvSectionRepository = cvSectionRepository;
+        this.cvTemplateCatalog = cvTemplateCatalog;
+        this.templateEngine = templateEngine;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cacheDir = Files.createDirectories(Path.of(cacheDir));
+        this.cacheMaxBytes = cacheMaxBytes;
+        this.timeoutSeconds = timeoutSeconds;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cv-render-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.renderTimer = Timer.builder("cv.render.duration").publishPercentileHistogram().register(meterRegistry);
+        this.cacheHitCounter = Counter.builder("cv.render.cache").tag("result", "hit").register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("cv.render.cache").tag("result", "miss").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("cv.render.rejected").register(meterRegistry);
+    }
+
+    /**
+     * Checks ownership and hashes everything that affects the output; nothing is parsed or rendered yet.
+     */
+    public RenderSource prepare(UUID cvId, UUID userId, Format format) {
+        // Loaded inside a short read-only transaction; rendering itself never holds a connection
+        return readOnlyTransaction.execute(status -> loadSource(cvId, userId, format));
+    }
+
+    public RenderedCv render(RenderSource source) {
+        Format format = source.format();
+        Path target = cacheDir.resolve(source.contentHash() + "." + format.getExtension());
+
+        if (Files.exists(target)) {
+            cacheHitCounter.increment();
+            touch(target);
+            return new RenderedCv(target, sizeOf(target), source.contentHash(), format);
+        }
+
+        cacheMissCounter.increment();
+        // Concurrent requests for the same content share one render
+        String key = target.getFileName().toString();
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> pending = inFlight.putIfAbsent(key, created);
+        if (pending == null) {
+            pending = created;
+            try {
+                executor.execute(() -> {
+                    try {
+                        created.complete(renderToFile(source, target));
+                    } catch (Throwable e) {
+                        created.completeExceptionally(e);
+                    } finally {
+                        inFlight.remove(key, created);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                rejectedCounter.increment();
+                ServiceOverloadedException overloaded = new ServiceOverloadedException(
+                        "CV rendering is busy. Please retry shortly.", retryAfterSeconds);
+                inFlight.remove(key, created);
+                created.completeExceptionally(overloaded);
+                throw overloaded;
+            }
+        }
+
+        try {
+            Path file = pending.get(timeoutSeconds, TimeUnit.SECONDS);
+            return new RenderedCv(file, sizeOf(file), source.contentHash(), format);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rendering CV", e);
+        } catch (TimeoutException e) {
+            throw new ServiceOverloadedException("CV rendering is taking longer than expected. Please retry shortly.", retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("CV rendering failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Deletes least recently served files until the cache fits its byte budget, plus abandoned temp files.
+     */
+    @Scheduled(fixedDelayString = "${cv-render.cache-sweep-interval-ms:600000}")
+    public void sweepCache() {
+        record CachedFile(Path path, long size, FileTime lastUsed) {
+        }
+
+        List<CachedFile> files = new ArrayList<>();
+        long total = 0;
+        Instant now = Instant.now();
+        Instant staleTempCutoff = now.minus(Duration.ofHours(1));
+        // Files served in the last minute may still be streaming, so they are never evicted
+        FileTime recentlyUsed = FileTime.from(now.minus(Duration.ofMinutes(1)));
+        try (Stream<Path> paths = Files.list(cacheDir)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                FileTime lastModified = Files.getLastModifiedTime(path);
+                if (path.getFileName().toString().endsWith(".tmp")) {
+                    if (lastModified.toInstant().isBefore(staleTempCutoff)) {
+                        Files.deleteIfExists(path);
+                    }
+                    continue;
+                }
+                if (lastModified.compareTo(recentlyUsed) < 0) {
+                    files.add(new CachedFile(path, Files.size(path), lastModified));
+                } else {
+                    total += Files.size(path);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to scan CV render cache: {}", e.getMessage());
+            return;
+        }
+
+        total += files.stream().mapToLong(CachedFile::size).sum();
+        if (total <= cacheMaxBytes) {
+            return;
+        }
+        files.sort(Comparator.comparing(CachedFile::lastUsed));
+        int evicted = 0;
+        for (CachedFile file : files) {
+            if (total <= cacheMaxBytes) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(file.path());
+                total -= file.size();
+                evicted++;
+            } catch (IOException e) {
+                logger.warn("Failed to evict {}: {}", file.path(), e.getMessage());
+            }
+        }
+        logger.info("Evicted {} rendered CVs from cache", evicted);
+    }
+
+    private RenderSource loadSource(UUID cvId, UUID userId, Format format) {
+        CV cv = cvRepository.findById(cvId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "CV not found"));
+
+        if (!cv.getUser().getId().equals(userId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
+        }
+
+        String styleConfig = null;
+        UUID templateId = null;
+        if (cv.getTemplate() != null) {
+            templateId = cv.getTemplate().getId();
+            styleConfig = cvTemplateCatalog.find(templateId)
+                    .map(entry -> entry.prototype().getStyleConfig())
+                    .orElse(null);
+        }
+
+        MessageDigest digest = sha256();
+        update(digest, RENDERER_VERSION);
+        update(digest, format.name());
+        update(digest, cv.getTitle());
+        update(digest, templateId != null ? templateId.toString() : "");
+        update(digest, styleConfig);
+
+        List<SourceSection> sections = new ArrayList<>();
+        for (CVSection section : cvSectionRepository.findByCvIdOrderByOrderIndexAsc(cvId)) {
+            if (!Boolean.TRUE.equals(section.getIsVisible())) {
+                continue;
+            }
+            update(digest, section.getSectionType().name());
+            update(digest, section.getTitle());
+            update(digest, section.getContent());
+            sections.add(new SourceSection(section.getTitle(), section.getSectionType().name(), section.getContent()));
+        }
+
+        return new RenderSource(HexFormat.of().formatHex(digest.digest()), format, cv.getTitle(), styleConfig,
+                List.copyOf(sections));
+    }
+
+    private Path renderToFile(RenderSource source, Path target) {
+        Timer.Sample sample = Timer.start();
+        Format format = source.format();
+        String tempPrefix = source.contentHash() + "." + UUID.randomUUID();
+        Path temp = cacheDir.resolve(tempPrefix + ".tmp");
+        // The PDF path streams Thymeleaf output to its own temp file and points the renderer at it, so the
+        // document never exists as one large in-memory string
+        Path html = format == Format.HTML ? temp : cacheDir.resolve(tempPrefix + ".html.tmp");
+        try {
+            // Section content is only parsed into the view model once a render is actually needed
+            List<SectionView> sections = new ArrayList<>(source.sections().size());
+            for (SourceSection section : source.sections()) {
+                sections.add(new SectionView(
+                        section.title() != null ? section.title() : humanize(section.sectionType()),
+                        section.sectionType(),
+                        toContentNode(null, parseContent(section.content()))));
+            }
+
+            Context context = new Context();
+            context.setVariable("title", source.title());
+            context.setVariable("style", resolveStyle(source.styleConfig()));
+            context.setVariable("sections", sections);
+
+            try (Writer writer = Files.newBufferedWriter(html, StandardCharsets.UTF_8)) {
+                templateEngine.process(DOCUMENT_TEMPLATE, context, writer);
+            }
+
+            if (format == Format.PDF) {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    PdfRendererBuilder builder = new PdfRendererBuilder();
+                    builder.useFastMode();
+                    builder.withFile(html.toFile());
+                    builder.toStream(out);
+                    builder.run();
+                }
+            }
+
+            // Readers only ever see complete files
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return target;
+        } catch (Exception e) {
+            logger.error("Failed to render CV {} as {}: {}", source.contentHash(), format, e.getMessage(), e);
+            throw new IllegalStateException("Failed to render CV", e);
+        } finally {
+            deleteQuietly(temp);
+            deleteQuietly(html);
+            sample.stop(renderTimer);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Object parseContent(String content) {
+        if (content == null || content.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(content, Object.class);
+        } catch (Exception e) {
+            return content;
+        }
+    }
+
+    private ContentNode toContentNode(String label, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            List<ContentNode> fields = new ArrayList<>();
+            map.forEach((key, child) -> fields.add(toContentNode(humanize(String.valueOf(key)), child)));
+            return new ContentNode("fields", label, null, fields);
+        }
+        if (value instanceof List<?> list) {
+            List<ContentNode> items = new ArrayList<>();
+            list.forEach(item -> items.add(toContentNode(null, item)));
+            return new ContentNode("list", label, null, items);
+        }
+        return new ContentNode("text", label, value == null ? "" : String.valueOf(value), List.of());
+    }
+
+    private Map<String, String> resolveStyle(String styleConfig) {
+        Map<String, String> style = new LinkedHashMap<>(DEFAULT_STYLE);
+        if (styleConfig == null || styleConfig.isBlank()) {
+            return style;
+        }
+        try {
+            Map<?, ?> configured = objectMapper.readValue(styleConfig, Map.class);
+            for (String key : DEFAULT_STYLE.keySet()) {
+                Object value = configured.get(key);
+                // Values are inlined into CSS, so anything beyond simple tokens is ignored
+                if (value instanceof String text && SAFE_STYLE_VALUE.matcher(text).matches()) {
+                    style.put(key, text);
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Ignoring unreadable styleConfig: {}", e.getMessage());
+        }
+        return style;
+    }
+
+    private static String humanize(String key) {
+        String spaced = key.replace('_', ' ').replaceAll("([a-z])([A-Z])", "$1 $2").toLowerCase();
+        return spaced.isEmpty() ? spaced : Character.toUpperCase(spaced.charAt(0)) + spaced.substring(1);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        // Length-prefixed so adjacent fields cannot run into each other
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Rendered CV disappeared from cache", e);
+        }
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            // Only affects eviction order
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.jobos.backend.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobos.backend.domain.cv.*;
 import com.jobos.backend.domain.user.User;
@@ -17,9 +16,12 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,17 +33,22 @@ public class CVService {
     private final CVSectionRepository cvSectionRepository;
     private final CVTemplateRepository cvTemplateRepository;
     private final UserRepository userRepository;
+    private final CVTemplateCatalog cvTemplateCatalog;
     private final ObjectMapper objectMapper;
     private static final int MAX_CVS_PER_USER = 5;
     private static final int MAX_SECTIONS_PER_CV = 15;
+    private static final int MAX_PATCH_OPERATIONS = 100;
+    // Matches what PostgreSQL would parse as an integer path element, minus the canonical forms RFC 6901 allows
+    private static final Pattern NON_CANONICAL_INDEX = Pattern.compile("(?!(?:0|[1-9][0-9]*)$)\\s*[+-]?[0-9]+");
 
     public CVService(CVRepository cvRepository, CVSectionRepository cvSectionRepository,
                      CVTemplateRepository cvTemplateRepository, UserRepository userRepository,
-                     ObjectMapper objectMapper) {
+                     CVTemplateCatalog cvTemplateCatalog, ObjectMapper objectMapper) {
         this.cvRepository = cvRepository;
         this.cvSectionRepository = cvSectionRepository;
         this.cvTemplateRepository = cvTemplateRepository;
         this.userRepository = userRepository;
+        this.cvTemplateCatalog = cvTemplateCatalog;
         this.objectMapper = objectMapper;
     }
 
@@ -60,12 +67,13 @@ public class CVService {
         cv.setUser(user);
         cv.setTitle(request.getTitle());
 
-        CVTemplate template = null;
+        CVTemplateCatalog.TemplateEntry template = null;
         if (request.getTemplateId() != null && !request.getTemplateId().isEmpty()) {
             UUID templateId = UUID.fromString(request.getTemplateId());
-            template = cvTemplateRepository.findById(templateId)
+            template = cvTemplateCatalog.find(templateId)
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Template not found"));
-            cv.setTemplate(template);
+            // The catalog already confirmed the template exists, so a reference avoids loading the row
+            cv.setTemplate(cvTemplateRepository.getReferenceById(templateId));
         }
 
         if (request.getVisibility() != null && !request.getVisibility().isEmpty()) {
@@ -81,11 +89,10 @@ public class CVService {
         }
 
         cv = cvRepository.save(cv);
-        cvRepository.flush();
 
         // Create sections from template configuration
         List<CVSectionResponse> sectionResponses = new ArrayList<>();
-        if (template != null && template.getSectionsConfig() != null) {
+        if (template != null) {
             sectionResponses = createSectionsFromTemplate(cv, template);
         }
         
@@ -98,8 +105,8 @@ public class CVService {
         response.setUpdatedAt(cv.getUpdatedAt());
         
         if (template != null) {
-            response.setTemplateId(template.getId().toString());
-            response.setTemplateName(template.getName());
+            response.setTemplateId(template.id().toString());
+            response.setTemplateName(template.name());
         }
         
         response.setSections(sectionResponses);
@@ -261,10 +268,55 @@ public class CVService {
             section.setIsVisible(request.getIsVisible());
         }
 
-        section = cvSectionRepository.save(section);
+        // Flushed here so the response carries the incremented version
+        section = cvSectionRepository.saveAndFlush(section);
         return mapToCVSectionResponse(section);
     }
 
+    /**
+     * Applies RFC 6902 operations to a section's content in the database, so only the edit travels over the wire.
+     * Rejected with 412 when {@code expectedVersion} is stale and 409 when an operation does not apply.
+     * Returns the section's new version.
+     */
+    @Transactional
+    public long patchSectionContent(UUID cvId, UUID sectionId, UUID userId, long expectedVersion,
+                                    List<JsonPatchOperation> operations) {
+        CV cv = cvRepository.findById(cvId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "CV not found"));
+
+        if (!cv.getUser().getId().equals(userId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
+        }
+
+        if (operations == null || operations.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Patch must contain at least one operation");
+        }
+        if (operations.size() > MAX_PATCH_OPERATIONS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Patch exceeds " + MAX_PATCH_OPERATIONS + " operations");
+        }
+
+        List<CVSectionRepositoryCustom.ContentPatch> patches = new ArrayList<>(operations.size());
+        for (JsonPatchOperation operation : operations) {
+            patches.add(toContentPatch(operation));
+        }
+
+        OptionalLong newVersion = cvSectionRepository.patchContent(cvId, sectionId, expectedVersion, patches);
+        if (newVersion.isPresent()) {
+            return newVersion.getAsLong();
+        }
+
+        // Nothing was written; work out why
+        Long currentVersion = cvSectionRepository.findVersionByIdAndCvId(sectionId, cvId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Section not found"));
+        if (currentVersion != expectedVersion) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                    "Section was modified by another request (current version " + currentVersion + ")");
+        }
+        throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "Patch could not be applied: a path does not exist or a test operation failed");
+    }
+
     @Transactional
     public void deleteSection(UUID cvId, UUID sectionId, UUID userId) {
         CV cv = cvRepository.findById(cvId)
@@ -294,27 +346,50 @@ public class CVService {
         }
 
         List<String> sectionIds = request.getSectionIds();
-        List<CVSection> sections = cv.getSections();
+        List<CVSection> sections = cvSectionRepository.findByCvIdOrderByOrderIndexAsc(cvId);
 
         if (sectionIds.size() != sections.size()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Section count mismatch");
         }
 
+        Map<UUID, CVSection> sectionsById = new HashMap<>();
+        sections.forEach(section -> sectionsById.put(section.getId(), section));
+
+        List<UUID> orderedIds = new ArrayList<>(sectionIds.size());
+        List<CVSectionResponse> sectionResponses = new ArrayList<>(sectionIds.size());
         for (int i = 0; i < sectionIds.size(); i++) {
             UUID sectionId = UUID.fromString(sectionIds.get(i));
-            CVSection section = sections.stream()
-                    .filter(s -> s.getId().equals(sectionId))
-                    .findFirst()
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                            "Section not found: " + sectionId));
-            section.setOrderIndex(i);
+            // Removing as we go also rejects an id listed twice
+            CVSection section = sectionsById.remove(sectionId);
+            if (section == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Section not found: " + sectionId);
+            }
+            orderedIds.add(sectionId);
+            // The entities are left untouched so dirty checking does not repeat the bulk update
+            CVSectionResponse sectionResponse = mapToCVSectionResponse(section);
+            sectionResponse.setOrderIndex(i);
+            sectionResponse.setVersion(section.getVersion() + 1);
+            sectionResponses.add(sectionResponse);
         }
 
-        cv = cvRepository.save(cv);
-        return mapToCVResponse(cv);
+        if (cvSectionRepository.updateOrderIndexes(cvId, orderedIds) != orderedIds.size()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "CV sections changed during reorder, please retry");
+        }
+
+        return mapToCVResponse(cv, sectionResponses);
     }
 
     private CVResponse mapToCVResponse(CV cv) {
+        List<CVSectionResponse> sectionResponses = new ArrayList<>();
+        if (cv.getSections() != null) {
+            sectionResponses = cv.getSections().stream()
+                    .map(this::mapToCVSectionResponse)
+                    .collect(Collectors.toList());
+        }
+        return mapToCVResponse(cv, sectionResponses);
+    }
+
+    private CVResponse mapToCVResponse(CV cv, List<CVSectionResponse> sectionResponses) {
         CVResponse response = new CVResponse();
         response.setId(cv.getId().toString());
         response.setTitle(cv.getTitle());
@@ -327,13 +402,6 @@ public class CVService {
             response.setTemplateId(cv.getTemplate().getId().toString());
             response.setTemplateName(cv.getTemplate().getName());
         }
-
-        List<CVSectionResponse> sectionResponses = new ArrayList<>();
-        if (cv.getSections() != null) {
-            sectionResponses = cv.getSections().stream()
-                    .map(this::mapToCVSectionResponse)
-                    .collect(Collectors.toList());
-        }
         response.setSections(sectionResponses);
 
         return response;
@@ -364,72 +432,113 @@ public class CVService {
         response.setContent(section.getContent());
         response.setOrderIndex(section.getOrderIndex());
         response.setIsVisible(section.getIsVisible());
+        response.setVersion(section.getVersion());
         response.setCreatedAt(section.getCreatedAt());
         return response;
     }
 
     /**
-     * Creates CV sections based on template's sectionsConfig JSON.
+     * Creates CV sections from the template's pre-parsed section configs.
      * Each template defines which sections should be created and their default structure.
      */
-    private List<CVSectionResponse> createSectionsFromTemplate(CV cv, CVTemplate template) {
+    private List<CVSectionResponse> createSectionsFromTemplate(CV cv, CVTemplateCatalog.TemplateEntry template) {
         List<CVSectionResponse> responses = new ArrayList<>();
-        
+        if (template.sections().isEmpty()) {
+            return responses;
+        }
+
+        List<CVSection> sections = new ArrayList<>(template.sections().size());
+        for (CVTemplateCatalog.SectionTemplate config : template.sections()) {
+            CVSection section = new CVSection();
+            section.setCv(cv);
+            section.setSectionType(config.sectionType());
+            section.setTitle(config.title());
+            section.setOrderIndex(config.orderIndex());
+            section.setIsVisible(config.visible());
+            section.setContent(config.defaultContent());
+            sections.add(section);
+        }
+
+        // Persisted together so the section INSERTs go out as one JDBC batch when the transaction flushes
+        for (CVSection section : cvSectionRepository.saveAll(sections)) {
+            responses.add(mapToCVSectionResponse(section));
+        }
+
+        logger.info("Created {} sections for CV {} from template {}",
+            responses.size(), cv.getId(), template.name());
+
+        return responses;
+    }
+
+    private CVSectionRepositoryCustom.ContentPatch toContentPatch(JsonPatchOperation operation) {
+        if (operation == null || operation.getOp() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Patch operation is required");
+        }
+
+        CVSectionRepositoryCustom.ContentPatchOp op;
         try {
-            String sectionsConfig = template.getSectionsConfig();
-            if (sectionsConfig == null || sectionsConfig.isEmpty()) {
-                return responses;
+            op = CVSectionRepositoryCustom.ContentPatchOp.valueOf(operation.getOp().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid patch operation: " + operation.getOp());
+        }
+
+        List<String> path = parseJsonPointer(operation.getPath());
+        List<String> from = null;
+        if (op == CVSectionRepositoryCustom.ContentPatchOp.MOVE || op == CVSectionRepositoryCustom.ContentPatchOp.COPY) {
+            from = parseJsonPointer(operation.getFrom());
+            if (op == CVSectionRepositoryCustom.ContentPatchOp.MOVE && path.size() > from.size()
+                    && path.subList(0, from.size()).equals(from)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot move a value into one of its children");
             }
+        }
+        if (path.isEmpty() && (op == CVSectionRepositoryCustom.ContentPatchOp.REMOVE
+                || op == CVSectionRepositoryCustom.ContentPatchOp.MOVE)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Section content cannot be removed");
+        }
 
-            List<Map<String, Object>> sectionConfigs = objectMapper.readValue(
-                sectionsConfig, 
-                new TypeReference<List<Map<String, Object>>>() {}
-            );
-
-            for (Map<String, Object> config : sectionConfigs) {
-                CVSection section = new CVSection();
-                section.setCv(cv);
-
-                // Parse section type
-                String sectionTypeStr = (String) config.get("sectionType");
-                try {
-                    section.setSectionType(CVSectionType.valueOf(sectionTypeStr));
-                } catch (IllegalArgumentException e) {
-                    logger.warn("Unknown section type: {}, skipping", sectionTypeStr);
-                    continue;
-                }
-
-                // Set title
-                section.setTitle((String) config.get("title"));
-
-                // Set order index
-                Object orderIndexObj = config.get("orderIndex");
-                section.setOrderIndex(orderIndexObj instanceof Integer ? (Integer) orderIndexObj : 0);
-
-                // Set visibility
-                Object isVisibleObj = config.get("isVisible");
-                section.setIsVisible(isVisibleObj instanceof Boolean ? (Boolean) isVisibleObj : true);
-
-                // Convert defaultContent to JSON string for storage
-                Object defaultContent = config.get("defaultContent");
-                if (defaultContent != null) {
-                    section.setContent(objectMapper.writeValueAsString(defaultContent));
-                } else {
-                    section.setContent("{}");
-                }
-
-                section = cvSectionRepository.save(section);
-                responses.add(mapToCVSectionResponse(section));
+        String value = null;
+        if (op == CVSectionRepositoryCustom.ContentPatchOp.ADD || op == CVSectionRepositoryCustom.ContentPatchOp.REPLACE
+                || op == CVSectionRepositoryCustom.ContentPatchOp.TEST) {
+            if (!operation.hasValue()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Patch operation " + operation.getOp() + " requires a value");
             }
+            try {
+                value = objectMapper.writeValueAsString(operation.getValue());
+            } catch (Exception e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid patch value");
+            }
+        }
 
-            logger.info("Created {} sections for CV {} from template {}", 
-                responses.size(), cv.getId(), template.getName());
+        return new CVSectionRepositoryCustom.ContentPatch(op, path, from, value);
+    }
 
-        } catch (Exception e) {
-            logger.error("Error creating sections from template: {}", e.getMessage(), e);
+    /**
+     * Splits an RFC 6901 JSON Pointer into unescaped segments; the empty pointer is the whole document.
+     * PostgreSQL's path operators read any segment that parses as an integer as an array index, counting negative
+     * ones from the end, so integer-like segments other than canonical indexes ("-1", "01", "+1") are rejected
+     * rather than silently addressing the wrong element. Object members with such names cannot be patched.
+     */
+    private List<String> parseJsonPointer(String pointer) {
+        if (pointer == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Patch path is required");
+        }
+        if (pointer.isEmpty()) {
+            return List.of();
+        }
+        if (!pointer.startsWith("/")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid JSON pointer: " + pointer);
         }
 
-        return responses;
+        List<String> segments = new ArrayList<>();
+        for (String segment : pointer.substring(1).split("/", -1)) {
+            String unescaped = segment.replace("~1", "/").replace("~0", "~");
+            if (NON_CANONICAL_INDEX.matcher(unescaped).matches()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid array index in JSON pointer: " + pointer);
+            }
+            segments.add(unescaped);
+        }
+        return segments;
     }
 
     private String convertContentToString(Object content) {
@@ -0,0 +1,190 @@
+package com.jobos.backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobos.backend.domain.cv.CVSectionType;
+import com.jobos.backend.domain.cv.CVTemplate;
+import com.jobos.backend.domain.cv.TemplateCategory;
+import com.jobos.backend.repository.CVTemplateRepository;
+import com.jobos.shared.dto.cv.CVTemplateResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable, versioned snapshot of all CV templates with their section configs already parsed and their
+ * response DTOs prebuilt, so listing templates and creating CVs from them never touch JSON or the template table.
+ * Rebuilt after seeding and on a fixed interval; readers always see a complete snapshot.
+ */
+@Component
+public class CVTemplateCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(CVTemplateCatalog.class);
+
+    public record SectionTemplate(CVSectionType sectionType, String title, int orderIndex, boolean visible,
+                                  String defaultContent) {
+    }
+
+    public record TemplateEntry(UUID id, String name, TemplateCategory category, boolean premium, boolean active,
+                                List<SectionTemplate> sections, CVTemplateResponse prototype) {
+
+        /**
+         * A fresh response for one caller; the shared prototype is never handed out.
+         */
+        public CVTemplateResponse toResponse(boolean unlocked) {
+            CVTemplateResponse response = new CVTemplateResponse();
+            response.setId(prototype.getId());
+            response.setName(prototype.getName());
+            response.setDescription(prototype.getDescription());
+            response.setPreviewImageUrl(prototype.getPreviewImageUrl());
+            response.setIsPremium(prototype.getIsPremium());
+            response.setCreditCost(prototype.getCreditCost());
+            response.setCategory(prototype.getCategory());
+            response.setIsUnlocked(unlocked);
+            response.setSectionsConfig(prototype.getSectionsConfig());
+            response.setStyleConfig(prototype.getStyleConfig());
+            response.setSectionCount(prototype.getSectionCount());
+            response.setCreatedAt(prototype.getCreatedAt());
+            return response;
+        }
+    }
+
+    private record Snapshot(long version, Map<UUID, TemplateEntry> byId, List<TemplateEntry> active) {
+    }
+
+    private final CVTemplateRepository cvTemplateRepository;
+    private final ObjectMapper objectMapper;
+    private volatile Snapshot snapshot;
+
+    public CVTemplateCatalog(CVTemplateRepository cvTemplateRepository, ObjectMapper objectMapper) {
+        this.cvTemplateRepository = cvTemplateRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public long getVersion() {
+        return current().version();
+    }
+
+    public List<TemplateEntry> activeTemplates(TemplateCategory category) {
+        List<TemplateEntry> active = current().active();
+        if (category == null) {
+            return active;
+        }
+        return active.stream().filter(entry -> entry.category() == category).toList();
+    }
+
+    /**
+     * Looks the template up in the snapshot and falls back to the database for one created since the last refresh.
+     */
+    public Optional<TemplateEntry> find(UUID templateId) {
+        TemplateEntry entry = current().byId().get(templateId);
+        if (entry != null) {
+            return Optional.of(entry);
+        }
+        return cvTemplateRepository.findById(templateId).map(this::toEntry);
+    }
+
+    @Scheduled(fixedDelayString = "${cv-templates.catalog.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        Map<UUID, TemplateEntry> byId = new HashMap<>();
+        List<TemplateEntry> active = new ArrayList<>();
+        for (CVTemplate template : cvTemplateRepository.findAll()) {
+            TemplateEntry entry = toEntry(template);
+            byId.put(entry.id(), entry);
+            if (entry.active()) {
+                active.add(entry);
+            }
+        }
+        long version = snapshot == null ? 1 : snapshot.version() + 1;
+        snapshot = new Snapshot(version, Collections.unmodifiableMap(byId), Collections.unmodifiableList(active));
+        logger.debug("Loaded CV template catalog version {} with {} templates", version, byId.size());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private TemplateEntry toEntry(CVTemplate template) {
+        List<Map<String, Object>> configs = parseSectionsConfig(template.getSectionsConfig());
+
+        CVTemplateResponse prototype = new CVTemplateResponse();
+        prototype.setId(template.getId().toString());
+        prototype.setName(template.getName());
+        prototype.setDescription(template.getDescription());
+        prototype.setPreviewImageUrl(template.getPreviewImageUrl());
+        prototype.setIsPremium(template.getIsPremium());
+        prototype.setCreditCost(template.getCreditCost());
+        prototype.setCategory(template.getCategory().name());
+        prototype.setSectionsConfig(template.getSectionsConfig());
+        prototype.setStyleConfig(template.getStyleConfig());
+        prototype.setSectionCount(configs.size());
+        prototype.setCreatedAt(template.getCreatedAt());
+
+        return new TemplateEntry(template.getId(), template.getName(), template.getCategory(),
+                Boolean.TRUE.equals(template.getIsPremium()), Boolean.TRUE.equals(template.getIsActive()),
+                toSectionTemplates(configs), prototype);
+    }
+
+    private List<Map<String, Object>> parseSectionsConfig(String sectionsConfig) {
+        if (sectionsConfig == null || sectionsConfig.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(sectionsConfig, new TypeReference<List<Map<String, Object>>>() {});
+        } catch (Exception e) {
+            logger.warn("Failed to parse sectionsConfig: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private List<SectionTemplate> toSectionTemplates(List<Map<String, Object>> configs) {
+        List<SectionTemplate> sections = new ArrayList<>(configs.size());
+        for (Map<String, Object> config : configs) {
+            String sectionTypeStr = (String) config.get("sectionType");
+            CVSectionType sectionType;
+            try {
+                sectionType = CVSectionType.valueOf(sectionTypeStr);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                logger.warn("Unknown section type: {}, skipping", sectionTypeStr);
+                continue;
+            }
+
+            Object orderIndex = config.get("orderIndex");
+            Object isVisible = config.get("isVisible");
+            Object defaultContent = config.get("defaultContent");
+            String content;
+            try {
+                content = defaultContent != null ? objectMapper.writeValueAsString(defaultContent) : "{}";
+            } catch (Exception e) {
+                logger.warn("Failed to serialize default content for section {}: {}", sectionTypeStr, e.getMessage());
+                content = "{}";
+            }
+
+            sections.add(new SectionTemplate(
+                    sectionType,
+                    (String) config.get("title"),
+                    orderIndex instanceof Integer ? (Integer) orderIndex : 0,
+                    isVisible instanceof Boolean ? (Boolean) isVisible : true,
+                    content));
+        }
+        return List.copyOf(sections);
+    }
+}
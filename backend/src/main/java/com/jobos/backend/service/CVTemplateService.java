@@ -1,7 +1,5 @@
 package com.jobos.backend.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobos.backend.domain.cv.CVTemplate;
 import com.jobos.backend.domain.cv.TemplateCategory;
 import com.jobos.backend.domain.cv.UserTemplateUnlock;
@@ -17,8 +15,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -32,59 +30,48 @@ public class CVTemplateService {
     private final UserTemplateUnlockRepository userTemplateUnlockRepository;
     private final UserRepository userRepository;
     private final CreditService creditService;
-    private final ObjectMapper objectMapper;
+    private final CVTemplateCatalog cvTemplateCatalog;
 
     public CVTemplateService(CVTemplateRepository cvTemplateRepository,
                              UserTemplateUnlockRepository userTemplateUnlockRepository,
                              UserRepository userRepository,
                              CreditService creditService,
-                             ObjectMapper objectMapper) {
+                             CVTemplateCatalog cvTemplateCatalog) {
         this.cvTemplateRepository = cvTemplateRepository;
         this.userTemplateUnlockRepository = userTemplateUnlockRepository;
         this.userRepository = userRepository;
         this.creditService = creditService;
-        this.objectMapper = objectMapper;
+        this.cvTemplateCatalog = cvTemplateCatalog;
     }
 
+    // Templates come from the in-memory catalog; only the caller's unlock set is read from the database
     @Transactional(readOnly = true)
     public List<CVTemplateResponse> getAllTemplates(UUID userId, String category) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
-
-        List<CVTemplate> templates;
+        TemplateCategory templateCategory = null;
         if (category != null && !category.isEmpty()) {
             try {
-                TemplateCategory templateCategory = TemplateCategory.valueOf(category.toUpperCase());
-                templates = cvTemplateRepository.findByIsActiveTrueAndCategory(templateCategory);
+                templateCategory = TemplateCategory.valueOf(category.toUpperCase());
             } catch (IllegalArgumentException e) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid category");
             }
-        } else {
-            templates = cvTemplateRepository.findByIsActiveTrue();
         }
 
-        List<UserTemplateUnlock> unlocks = userTemplateUnlockRepository.findByUser(user);
-        Set<UUID> unlockedTemplateIds = unlocks.stream()
-                .map(unlock -> unlock.getTemplate().getId())
-                .collect(Collectors.toSet());
+        Set<UUID> unlockedTemplateIds = new HashSet<>(userTemplateUnlockRepository.findTemplateIdsByUserId(userId));
 
-        return templates.stream()
-                .map(template -> mapToTemplateResponse(template, unlockedTemplateIds.contains(template.getId())))
+        return cvTemplateCatalog.activeTemplates(templateCategory).stream()
+                .map(entry -> entry.toResponse(unlockedTemplateIds.contains(entry.id())))
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public CVTemplateResponse getTemplateById(UUID templateId, UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
-
-        CVTemplate template = cvTemplateRepository.findById(templateId)
+        CVTemplateCatalog.TemplateEntry template = cvTemplateCatalog.find(templateId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Template not found"));
 
-        boolean isUnlocked = !template.getIsPremium() ||
-                userTemplateUnlockRepository.existsByUserAndTemplate(user, template);
+        boolean isUnlocked = !template.premium() ||
+                userTemplateUnlockRepository.existsByUserIdAndTemplateId(userId, templateId);
 
-        return mapToTemplateResponse(template, isUnlocked);
+        return template.toResponse(isUnlocked);
     }
 
     @Transactional
@@ -116,39 +103,8 @@ public class CVTemplateService {
         unlock.setTemplate(template);
         userTemplateUnlockRepository.save(unlock);
 
-        return mapToTemplateResponse(template, true);
-    }
-
-    private CVTemplateResponse mapToTemplateResponse(CVTemplate template, boolean isUnlocked) {
-        CVTemplateResponse response = new CVTemplateResponse();
-        response.setId(template.getId().toString());
-        response.setName(template.getName());
-        response.setDescription(template.getDescription());
-        response.setPreviewImageUrl(template.getPreviewImageUrl());
-        response.setIsPremium(template.getIsPremium());
-        response.setCreditCost(template.getCreditCost());
-        response.setCategory(template.getCategory().name());
-        response.setIsUnlocked(isUnlocked);
-        response.setSectionsConfig(template.getSectionsConfig());
-        response.setStyleConfig(template.getStyleConfig());
-        response.setSectionCount(countSections(template.getSectionsConfig()));
-        response.setCreatedAt(template.getCreatedAt());
-        return response;
-    }
-
-    private Integer countSections(String sectionsConfig) {
-        if (sectionsConfig == null || sectionsConfig.isEmpty()) {
-            return 0;
-        }
-        try {
-            List<Map<String, Object>> sections = objectMapper.readValue(
-                sectionsConfig,
-                new TypeReference<List<Map<String, Object>>>() {}
-            );
-            return sections.size();
-        } catch (Exception e) {
-            logger.warn("Failed to parse sectionsConfig: {}", e.getMessage());
-            return 0;
-        }
+        return cvTemplateCatalog.find(templateId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Template not found"))
+                .toResponse(true);
     }
 }
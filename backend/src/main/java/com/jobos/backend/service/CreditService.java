@@ -4,6 +4,8 @@ import com.jobos.backend.domain.credit.*;
 import com.jobos.backend.domain.user.User;
 import com.jobos.backend.repository.*;
 import com.jobos.shared.dto.credit.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -29,17 +31,22 @@ public class CreditService {
     private final SubscriptionPlanRepository subscriptionPlanRepository;
     private final UserSubscriptionRepository userSubscriptionRepository;
     private final UserRepository userRepository;
+    private final Counter purchasedCounter;
+    private final Counter deductedCounter;
 
     public CreditService(CreditBalanceRepository creditBalanceRepository,
                         CreditTransactionRepository creditTransactionRepository,
                         SubscriptionPlanRepository subscriptionPlanRepository,
                         UserSubscriptionRepository userSubscriptionRepository,
-                        UserRepository userRepository) {
+                        UserRepository userRepository,
+                        MeterRegistry meterRegistry) {
         this.creditBalanceRepository = creditBalanceRepository;
         this.creditTransactionRepository = creditTransactionRepository;
         this.subscriptionPlanRepository = subscriptionPlanRepository;
         this.userSubscriptionRepository = userSubscriptionRepository;
         this.userRepository = userRepository;
+        this.purchasedCounter = Counter.builder("credits.purchased").baseUnit("credits").register(meterRegistry);
+        this.deductedCounter = Counter.builder("credits.deducted").baseUnit("credits").register(meterRegistry);
     }
 
     @Transactional
@@ -74,6 +81,7 @@ public class CreditService {
         transaction.setBalanceAfter(balance.getBalance());
         transaction.setDescription("Credit purchase");
         creditTransactionRepository.save(transaction);
+        purchasedCounter.increment(request.getAmount());
 
         return mapToBalanceResponse(balance);
     }
@@ -101,6 +109,7 @@ public class CreditService {
         transaction.setBalanceAfter(balance.getBalance());
         transaction.setDescription(description);
         creditTransactionRepository.save(transaction);
+        deductedCounter.increment(amount);
 
         return true;
     }
@@ -1,5 +1,7 @@
 package com.jobos.backend.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,13 +18,20 @@ public class EmailService {
 
     private final JavaMailSender mailSender;
     private final EmailTemplateService templateService;
+    private final Timer sentTimer;
+    private final Timer failedTimer;
 
-    public EmailService(JavaMailSender mailSender, EmailTemplateService templateService) {
+    public EmailService(JavaMailSender mailSender, EmailTemplateService templateService, MeterRegistry meterRegistry) {
         this.mailSender = mailSender;
         this.templateService = templateService;
+        this.sentTimer = Timer.builder("email.send").tag("outcome", "sent")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.failedTimer = Timer.builder("email.send").tag("outcome", "failed")
+                .publishPercentileHistogram().register(meterRegistry);
     }
 
     public void sendHtmlEmail(String to, String subject, String htmlContent) {
+        Timer.Sample sample = Timer.start();
         try {
             logger.debug("Preparing to send email to {} with subject: {}", to, subject);
             MimeMessage message = mailSender.createMimeMessage();
@@ -33,8 +42,10 @@ public class EmailService {
             helper.setText(htmlContent, true);
             
             mailSender.send(message);
+            sample.stop(sentTimer);
             logger.info("Email sent successfully to {} with subject: {}", to, subject);
         } catch (Exception e) {
+            sample.stop(failedTimer);
             logger.error("Failed to send email to {} with subject: {}. Error: {}", to, subject, e.getMessage());
             throw new RuntimeException("Failed to send email to: " + to, e);
         }
@@ -1,93 +1,118 @@
 package com.jobos.backend.service;
 
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
 import com.jobos.backend.config.FirebaseConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 @Service
-public class FirebaseMessagingService {
-    
+@ConditionalOnProperty(name = "notifications.push.sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseMessagingService implements PushNotificationSender {
+
     private static final Logger logger = LoggerFactory.getLogger(FirebaseMessagingService.class);
+
+    // FCM accepts at most 500 messages per sendEach call
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final Set<MessagingErrorCode> INVALID_TOKEN_CODES = Set.of(
+            MessagingErrorCode.UNREGISTERED,
+            MessagingErrorCode.SENDER_ID_MISMATCH
+    );
+
     private final FirebaseConfig firebaseConfig;
+    private final MeterRegistry meterRegistry;
+    private final Timer sendSucceededTimer;
+    private final Timer sendFailedTimer;
 
-    public FirebaseMessagingService(FirebaseConfig firebaseConfig) {
+    public FirebaseMessagingService(FirebaseConfig firebaseConfig, MeterRegistry meterRegistry) {
         this.firebaseConfig = firebaseConfig;
+        this.meterRegistry = meterRegistry;
+        this.sendSucceededTimer = Timer.builder("firebase.messaging.send").tag("outcome", "success")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.sendFailedTimer = Timer.builder("firebase.messaging.send").tag("outcome", "error")
+                .publishPercentileHistogram().register(meterRegistry);
     }
 
-    public boolean sendPushNotification(String fcmToken, String title, String body, String actionUrl) {
-        if (!firebaseConfig.isFirebaseInitialized()) {
-            logger.warn("Firebase not initialized. Push notification not sent.");
-            return false;
-        }
+    @Override
+    public boolean isAvailable() {
+        return firebaseConfig.isFirebaseInitialized();
+    }
 
-        if (fcmToken == null || fcmToken.isEmpty()) {
-            logger.debug("No FCM token provided. Push notification not sent.");
-            return false;
+    @Override
+    public List<PushSendResult> sendBatch(List<PushMessage> messages) {
+        List<PushSendResult> results = new ArrayList<>(messages.size());
+        if (!isAvailable()) {
+            logger.warn("Firebase not initialized. {} push notifications not sent.", messages.size());
+            messages.forEach(message -> results.add(PushSendResult.failed("Firebase not initialized")));
+            return results;
         }
 
-        try {
-            Notification notification = Notification.builder()
-                    .setTitle(title)
-                    .setBody(body)
-                    .build();
-
-            Message.Builder messageBuilder = Message.builder()
-                    .setToken(fcmToken)
-                    .setNotification(notification);
-
-            if (actionUrl != null && !actionUrl.isEmpty()) {
-                messageBuilder.putData("actionUrl", actionUrl);
+        for (int from = 0; from < messages.size(); from += MAX_BATCH_SIZE) {
+            List<PushMessage> chunk = messages.subList(from, Math.min(from + MAX_BATCH_SIZE, messages.size()));
+            Timer.Sample sample = Timer.start();
+            try {
+                BatchResponse response = FirebaseMessaging.getInstance()
+                        .sendEach(chunk.stream().map(this::toMessage).toList());
+                sample.stop(sendSucceededTimer);
+                for (SendResponse sendResponse : response.getResponses()) {
+                    results.add(toResult(sendResponse));
+                }
+                logger.debug("Sent push batch: {} succeeded, {} failed", response.getSuccessCount(), response.getFailureCount());
+            } catch (FirebaseMessagingException e) {
+                sample.stop(sendFailedTimer);
+                countFailure(e, chunk.size());
+                logger.error("Failed to send push batch of {}: {}", chunk.size(), e.getMessage());
+                chunk.forEach(message -> results.add(PushSendResult.failed(e.getMessage())));
             }
-
-            Message message = messageBuilder.build();
-            String response = FirebaseMessaging.getInstance().send(message);
-            logger.info("Successfully sent push notification: {}", response);
-            return true;
-        } catch (Exception e) {
-            logger.error("Failed to send push notification to token {}: {}", 
-                    fcmToken.substring(0, Math.min(10, fcmToken.length())) + "...", 
-                    e.getMessage());
-            return false;
         }
+        return results;
     }
 
-    public boolean sendPushNotificationWithData(String fcmToken, String title, String body, 
-                                                 java.util.Map<String, String> data) {
-        if (!firebaseConfig.isFirebaseInitialized()) {
-            logger.warn("Firebase not initialized. Push notification not sent.");
-            return false;
-        }
+    private Message toMessage(PushMessage pushMessage) {
+        Message.Builder builder = Message.builder()
+                .setToken(pushMessage.token())
+                .setNotification(Notification.builder()
+                        .setTitle(pushMessage.title())
+                        .setBody(pushMessage.body())
+                        .build());
 
-        if (fcmToken == null || fcmToken.isEmpty()) {
-            logger.debug("No FCM token provided. Push notification not sent.");
-            return false;
+        if (pushMessage.data() != null && !pushMessage.data().isEmpty()) {
+            builder.putAllData(pushMessage.data());
         }
+        return builder.build();
+    }
 
-        try {
-            Notification notification = Notification.builder()
-                    .setTitle(title)
-                    .setBody(body)
-                    .build();
-
-            Message.Builder messageBuilder = Message.builder()
-                    .setToken(fcmToken)
-                    .setNotification(notification);
-
-            if (data != null && !data.isEmpty()) {
-                messageBuilder.putAllData(data);
-            }
-
-            Message message = messageBuilder.build();
-            String response = FirebaseMessaging.getInstance().send(message);
-            logger.info("Successfully sent push notification with data: {}", response);
-            return true;
-        } catch (Exception e) {
-            logger.error("Failed to send push notification: {}", e.getMessage());
-            return false;
+    private PushSendResult toResult(SendResponse sendResponse) {
+        if (sendResponse.isSuccessful()) {
+            return PushSendResult.sent();
         }
+        FirebaseMessagingException e = sendResponse.getException();
+        countFailure(e, 1);
+        if (e.getMessagingErrorCode() != null && INVALID_TOKEN_CODES.contains(e.getMessagingErrorCode())) {
+            return PushSendResult.invalidToken(e.getMessage());
+        }
+        // Also returned for oversized or malformed payloads, so it condemns the message rather than the token
+        if (e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT) {
+            return PushSendResult.rejected(e.getMessage());
+        }
+        return PushSendResult.failed(e.getMessage());
+    }
+
+    private void countFailure(FirebaseMessagingException e, int messages) {
+        String code = e.getMessagingErrorCode() != null ? e.getMessagingErrorCode().name() : "UNKNOWN";
+        meterRegistry.counter("firebase.messaging.failures", "code", code).increment(messages);
     }
 }
@@ -0,0 +1,60 @@
+package com.jobos.backend.service;
+
+import com.jobos.backend.repository.JobPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically recomputes job application counts from the applications table to repair any drift. Job posts are
+ * locked and repaired in id-ordered batches, each in its own transaction, so applies to a post wait at most for
+ * one batch.
+ */
+@Component
+public class JobCountReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobCountReconciler.class);
+
+    private final JobPostRepository jobPostRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public JobCountReconciler(
+            JobPostRepository jobPostRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${job-counts.reconcile-batch-size:500}") int batchSize) {
+        this.jobPostRepository = jobPostRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${job-counts.reconcile-cron:0 30 3 * * *}")
+    public int reconcileApplicationCounts() {
+        int repaired = 0;
+        UUID afterId = new UUID(0L, 0L);
+        while (afterId != null) {
+            UUID from = afterId;
+            Batch batch = transactionTemplate.execute(status -> {
+                List<UUID> ids = jobPostRepository.lockBatchForReconcile(from, batchSize);
+                return new Batch(ids.isEmpty() ? null : ids.get(ids.size() - 1),
+                        ids.isEmpty() ? 0 : jobPostRepository.reconcileApplicationCounts(ids));
+            });
+            repaired += batch.repaired();
+            afterId = batch.lastId();
+        }
+        if (repaired > 0) {
+            logger.warn("Repaired application count drift on {} job posts", repaired);
+        }
+        return repaired;
+    }
+
+    private record Batch(UUID lastId, int repaired) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.jobos.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobos.shared.dto.job.JobListResponse;
+import com.jobos.shared.dto.job.JobSearchRequest;
+import com.jobos.shared.dto.job.JobSearchResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches user-independent job search pages keyed by the normalized search request.
+ * Entries carry isSaved=false; callers overlay per-user state on a copy.
+ */
+@Component
+public class JobSearchCache {
+
+    private final Cache<SearchKey, JobSearchResponse> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public JobSearchCache(
+            MeterRegistry meterRegistry,
+            @Value("${job-search.cache.max-weight-bytes:16777216}") long maxWeightBytes,
+            @Value("${job-search.cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((SearchKey key, JobSearchResponse value) -> estimateSize(value))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jobSearch");
+    }
+
+    public JobSearchResponse get(JobSearchRequest request, Supplier<JobSearchResponse> loader) {
+        SearchKey key = SearchKey.of(request);
+        JobSearchResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // A write that commits while we load bumps the generation; its result must not stay cached. Checking
+        // after the put closes the window where an invalidation lands between the check and the put.
+        long loadGeneration = generation.get();
+        JobSearchResponse loaded = loader.get();
+        if (generation.get() == loadGeneration) {
+            cache.put(key, loaded);
+            if (generation.get() != loadGeneration) {
+                cache.invalidate(key);
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateAll();
+            }
+        });
+    }
+
+    private static int estimateSize(JobSearchResponse response) {
+        long chars = 0;
+        if (response.getJobs() != null) {
+            for (JobListResponse job : response.getJobs()) {
+                chars += 256 + length(job.getTitle()) + length(job.getCompany()) + length(job.getLocation())
+                        + length(job.getDescription());
+                if (job.getSkills() != null) {
+                    for (String skill : job.getSkills()) {
+                        chars += 16 + length(skill);
+                    }
+                }
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, 512 + chars * 2);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private record SearchKey(
+            String keywords,
+            String location,
+            Boolean isRemote,
+            List<String> jobTypes,
+            List<String> experienceLevels,
+            Integer salaryMin,
+            Integer salaryMax,
+            List<String> skills,
+            String skillMatch,
+            String postedWithin,
+            Integer page,
+            Integer size,
+            String sortBy,
+            String sortDirection,
+            String paginationMode,
+            String cursor,
+            Boolean includeFacets
+    ) {
+        static SearchKey of(JobSearchRequest request) {
+            return new SearchKey(
+                    lower(request.getKeywords()),
+                    lower(request.getLocation()),
+                    request.getIsRemote(),
+                    upperSorted(request.getJobTypes()),
+                    upperSorted(request.getExperienceLevels()),
+                    request.getSalaryMin(),
+                    request.getSalaryMax(),
+                    lowerSorted(request.getSkills()),
+                    upper(request.getSkillMatch()),
+                    lower(request.getPostedWithin()),
+                    request.getPage(),
+                    request.getSize(),
+                    request.getSortBy(),
+                    upper(request.getSortDirection()),
+                    upper(request.getPaginationMode()),
+                    request.getCursor(),
+                    Boolean.TRUE.equals(request.getIncludeFacets())
+            );
+        }
+
+        private static String lower(String value) {
+            return value != null && !value.isBlank() ? value.trim().toLowerCase(Locale.ROOT) : null;
+        }
+
+        private static String upper(String value) {
+            return value != null && !value.isBlank() ? value.trim().toUpperCase(Locale.ROOT) : null;
+        }
+
+        private static List<String> upperSorted(List<String> values) {
+            return values == null || values.isEmpty() ? null : values.stream().map(SearchKey::upper).filter(v -> v != null).distinct().sorted().toList();
+        }
+
+        private static List<String> lowerSorted(List<String> values) {
+            return values == null || values.isEmpty() ? null : values.stream().map(SearchKey::lower).filter(v -> v != null).distinct().sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.jobos.backend.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position for cursor-paginated job search: the (createdAt, id) of the last row served.
+ */
+final class JobSearchCursor {
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    JobSearchCursor(LocalDateTime createdAt, UUID id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    UUID getId() {
+        return id;
+    }
+
+    String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static JobSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new JobSearchCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
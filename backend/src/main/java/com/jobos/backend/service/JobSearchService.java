@@ -8,7 +8,19 @@ import com.jobos.backend.repository.JobPostRepository;
 import com.jobos.backend.repository.SavedJobRepository;
 import com.jobos.backend.repository.UserRepository;
 import com.jobos.shared.dto.job.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -18,13 +30,17 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -32,44 +48,84 @@ import java.util.stream.Collectors;
 public class JobSearchService {
 
     private static final Logger logger = LoggerFactory.getLogger(JobSearchService.class);
+    private static final int[] SALARY_BUCKET_BOUNDS = {50000, 100000, 150000};
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final JobPostRepository jobPostRepository;
     private final SavedJobRepository savedJobRepository;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final JobSearchCache jobSearchCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter offsetSearchCounter;
+    private final Counter cursorSearchCounter;
 
     public JobSearchService(JobPostRepository jobPostRepository,
                            SavedJobRepository savedJobRepository,
                            UserRepository userRepository,
-                           ObjectMapper objectMapper) {
+                           ObjectMapper objectMapper,
+                           EntityManager entityManager,
+                           JobSearchCache jobSearchCache,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
         this.jobPostRepository = jobPostRepository;
         this.savedJobRepository = savedJobRepository;
         this.userRepository = userRepository;
         this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.jobSearchCache = jobSearchCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.offsetSearchCounter = Counter.builder("job.searches").tag("pagination", "offset").register(meterRegistry);
+        this.cursorSearchCounter = Counter.builder("job.searches").tag("pagination", "cursor").register(meterRegistry);
     }
 
-    @Transactional(readOnly = true)
+    // Not @Transactional: cache hits should not borrow a connection, misses open a read-only transaction
     public JobSearchResponse searchJobs(JobSearchRequest searchRequest, UUID userId) {
+        normalizePaging(searchRequest);
+        (isCursorMode(searchRequest) ? cursorSearchCounter : offsetSearchCounter).increment();
+        JobSearchResponse page = jobSearchCache.get(searchRequest,
+                () -> readOnlyTransaction.execute(status -> loadSearchPage(searchRequest)));
+        return withSavedState(page, userId);
+    }
+
+    // Applied before the cache lookup so equivalent requests share a key and bad values fail with 400, not 500
+    private static void normalizePaging(JobSearchRequest searchRequest) {
+        if (searchRequest.getSize() == null) {
+            searchRequest.setSize(DEFAULT_PAGE_SIZE);
+        } else if (searchRequest.getSize() < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page size must be at least 1");
+        } else if (searchRequest.getSize() > MAX_PAGE_SIZE) {
+            searchRequest.setSize(MAX_PAGE_SIZE);
+        }
+
+        if (searchRequest.getPage() == null) {
+            searchRequest.setPage(0);
+        } else if (searchRequest.getPage() < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page must not be negative");
+        }
+    }
+
+    private static boolean isCursorMode(JobSearchRequest searchRequest) {
+        return "CURSOR".equalsIgnoreCase(searchRequest.getPaginationMode());
+    }
+
+    private JobSearchResponse loadSearchPage(JobSearchRequest searchRequest) {
+        if (isCursorMode(searchRequest)) {
+            return searchJobsByCursor(searchRequest);
+        }
+
         Specification<JobPost> spec = buildJobSearchSpecification(searchRequest);
 
         Sort sort = buildSort(searchRequest);
-        Pageable pageable = PageRequest.of(
-                searchRequest.getPage(),
-                Math.min(searchRequest.getSize(), 100),
-                sort
-        );
+        Pageable pageable = PageRequest.of(searchRequest.getPage(), searchRequest.getSize(), sort);
 
         Page<JobPost> jobPage = jobPostRepository.findAll(spec, pageable);
 
-        final User finalUser;
-        if (userId != null) {
-            finalUser = userRepository.findById(userId).orElse(null);
-        } else {
-            finalUser = null;
-        }
-
         List<JobListResponse> jobListResponses = jobPage.getContent().stream()
-                .map(job -> mapToJobListResponse(job, finalUser))
+                .map(this::mapToJobListResponse)
                 .collect(Collectors.toList());
 
         JobSearchResponse response = new JobSearchResponse();
@@ -81,6 +137,58 @@ public class JobSearchService {
         response.setHasNext(jobPage.hasNext());
         response.setHasPrevious(jobPage.hasPrevious());
 
+        if (Boolean.TRUE.equals(searchRequest.getIncludeFacets())) {
+            response.setFacets(computeFacets(spec));
+        }
+
+        return response;
+    }
+
+    private JobSearchResponse searchJobsByCursor(JobSearchRequest searchRequest) {
+        String sortBy = searchRequest.getSortBy() != null ? searchRequest.getSortBy() : "createdAt";
+        if (!sortBy.equals("createdAt")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor pagination only supports sortBy=createdAt");
+        }
+
+        Sort.Direction direction = "ASC".equalsIgnoreCase(searchRequest.getSortDirection()) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, "createdAt").and(Sort.by(direction, "id"));
+        int size = searchRequest.getSize();
+
+        Specification<JobPost> spec = buildJobSearchSpecification(searchRequest);
+
+        JobSearchCursor cursor = null;
+        if (searchRequest.getCursor() != null && !searchRequest.getCursor().isBlank()) {
+            cursor = JobSearchCursor.decode(searchRequest.getCursor());
+        }
+
+        Specification<JobPost> pageSpec = cursor != null ? spec.and(buildKeysetSpecification(cursor, direction)) : spec;
+
+        // One extra row tells us whether another page exists without a count query
+        List<JobPost> rows = jobPostRepository.findBy(pageSpec, query -> query.sortBy(sort).limit(size + 1).all());
+        boolean hasNext = rows.size() > size;
+        List<JobPost> jobs = hasNext ? rows.subList(0, size) : rows;
+
+        List<JobListResponse> jobListResponses = jobs.stream()
+                .map(this::mapToJobListResponse)
+                .collect(Collectors.toList());
+
+        JobSearchResponse response = new JobSearchResponse();
+        response.setJobs(jobListResponses);
+        // No total in cursor mode: an exact COUNT is what this mode exists to avoid
+        response.setPageSize(size);
+        response.setHasNext(hasNext);
+        response.setHasPrevious(cursor != null);
+
+        if (hasNext) {
+            JobPost last = jobs.get(jobs.size() - 1);
+            response.setNextCursor(new JobSearchCursor(last.getCreatedAt(), last.getId()).encode());
+        }
+
+        // Facets describe the whole filter, so they are only computed for the first page of a scroll
+        if (Boolean.TRUE.equals(searchRequest.getIncludeFacets()) && cursor == null) {
+            response.setFacets(computeFacets(spec));
+        }
+
         return response;
     }
 
@@ -127,18 +235,79 @@ public class JobSearchService {
         return savedJobs.map(savedJob -> mapSavedJobToJobListResponse(savedJob, user));
     }
 
+    private Set<UUID> findSavedJobIds(UUID userId, List<JobListResponse> jobs) {
+        if (userId == null || jobs.isEmpty()) {
+            return Set.of();
+        }
+
+        List<UUID> jobIds = jobs.stream()
+                .map(job -> UUID.fromString(job.getId()))
+                .collect(Collectors.toList());
+
+        return savedJobRepository.findSavedJobPostIds(userId, jobIds);
+    }
+
+    // Cached pages are shared between users, so the per-user saved flag goes on copies
+    private JobSearchResponse withSavedState(JobSearchResponse page, UUID userId) {
+        Set<UUID> savedJobIds = findSavedJobIds(userId, page.getJobs());
+
+        JobSearchResponse response = new JobSearchResponse();
+        response.setJobs(page.getJobs().stream()
+                .map(job -> copyWithSavedState(job, savedJobIds.contains(UUID.fromString(job.getId()))))
+                .collect(Collectors.toList()));
+        response.setCurrentPage(page.getCurrentPage());
+        response.setTotalPages(page.getTotalPages());
+        response.setTotalElements(page.getTotalElements());
+        response.setPageSize(page.getPageSize());
+        response.setHasNext(page.getHasNext());
+        response.setHasPrevious(page.getHasPrevious());
+        response.setNextCursor(page.getNextCursor());
+        response.setFacets(page.getFacets());
+        return response;
+    }
+
+    private JobListResponse copyWithSavedState(JobListResponse job, boolean saved) {
+        JobListResponse copy = new JobListResponse();
+        copy.setId(job.getId());
+        copy.setTitle(job.getTitle());
+        copy.setCompany(job.getCompany());
+        copy.setLocation(job.getLocation());
+        copy.setIsRemote(job.getIsRemote());
+        copy.setJobType(job.getJobType());
+        copy.setExperienceLevel(job.getExperienceLevel());
+        copy.setSalaryMin(job.getSalaryMin());
+        copy.setSalaryMax(job.getSalaryMax());
+        copy.setSalaryCurrency(job.getSalaryCurrency());
+        copy.setSkills(job.getSkills());
+        copy.setDescription(job.getDescription());
+        copy.setApplicationDeadline(job.getApplicationDeadline());
+        copy.setStatus(job.getStatus());
+        copy.setApplicationCount(job.getApplicationCount());
+        copy.setCreatedAt(job.getCreatedAt());
+        copy.setSavedAt(job.getSavedAt());
+        copy.setIsSaved(saved);
+        return copy;
+    }
+
     private Specification<JobPost> buildJobSearchSpecification(JobSearchRequest searchRequest) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             predicates.add(criteriaBuilder.equal(root.get("status"), JobStatus.ACTIVE));
 
-            if (searchRequest.getKeywords() != null && !searchRequest.getKeywords().isEmpty()) {
-                String keyword = "%" + searchRequest.getKeywords().toLowerCase() + "%";
-                Predicate titleMatch = criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), keyword);
-                Predicate descriptionMatch = criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), keyword);
-                Predicate companyMatch = criteriaBuilder.like(criteriaBuilder.lower(root.get("company")), keyword);
-                predicates.add(criteriaBuilder.or(titleMatch, descriptionMatch, companyMatch));
+            if (hasKeywords(searchRequest)) {
+                Expression<String> keywords = criteriaBuilder.literal(searchRequest.getKeywords().trim());
+                predicates.add(criteriaBuilder.isTrue(
+                        criteriaBuilder.function("fts_match", Boolean.class, keywords)
+                ));
+
+                // Relevance ordering is applied here because Sort cannot express ts_rank; count queries are left unordered
+                if (isRelevanceSort(searchRequest) && query != null && query.getResultType() == JobPost.class) {
+                    query.orderBy(
+                            criteriaBuilder.desc(criteriaBuilder.function("fts_rank", Float.class, keywords)),
+                            criteriaBuilder.desc(root.get("createdAt"))
+                    );
+                }
             }
 
             if (searchRequest.getLocation() != null && !searchRequest.getLocation().isEmpty()) {
@@ -201,11 +370,23 @@ public class JobSearchService {
             }
 
             if (searchRequest.getSkills() != null && !searchRequest.getSkills().isEmpty()) {
-                for (String skill : searchRequest.getSkills()) {
-                    predicates.add(criteriaBuilder.like(
-                            criteriaBuilder.lower(root.get("skills")),
-                            "%" + skill.toLowerCase() + "%"
-                    ));
+                Set<String> skillTokens = searchRequest.getSkills().stream()
+                        .map(JobPost::canonicalizeSkill)
+                        .filter(token -> token != null)
+                        .collect(Collectors.toSet());
+
+                if (!skillTokens.isEmpty()) {
+                    Subquery<UUID> skillMatches = query.subquery(UUID.class);
+                    Root<JobPost> skillRoot = skillMatches.from(JobPost.class);
+                    Join<JobPost, String> skill = skillRoot.join("skillTokens");
+                    skillMatches.select(skillRoot.get("id")).where(skill.in(skillTokens));
+
+                    if (!"ANY".equalsIgnoreCase(searchRequest.getSkillMatch())) {
+                        skillMatches.groupBy(skillRoot.get("id"))
+                                .having(criteriaBuilder.equal(criteriaBuilder.countDistinct(skill), (long) skillTokens.size()));
+                    }
+
+                    predicates.add(root.get("id").in(skillMatches));
                 }
             }
 
@@ -225,12 +406,109 @@ public class JobSearchService {
         };
     }
 
+    /**
+     * Counts every facet value for the current filter in a single aggregate query.
+     * Each value is a SUM(CASE WHEN ... THEN 1 ELSE 0 END) column, the portable form of COUNT(*) FILTER (WHERE ...).
+     */
+    private JobSearchFacets computeFacets(Specification<JobPost> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<JobPost> root = query.from(JobPost.class);
+        query.where(spec.toPredicate(root, query, criteriaBuilder));
+
+        List<Map<String, Long>> targets = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        JobSearchFacets facets = new JobSearchFacets();
+
+        for (JobType jobType : JobType.values()) {
+            targets.add(facets.getJobTypes());
+            keys.add(jobType.name());
+            selections.add(countWhere(criteriaBuilder, criteriaBuilder.equal(root.get("jobType"), jobType)));
+        }
+
+        for (ExperienceLevel experienceLevel : ExperienceLevel.values()) {
+            targets.add(facets.getExperienceLevels());
+            keys.add(experienceLevel.name());
+            selections.add(countWhere(criteriaBuilder, criteriaBuilder.equal(root.get("experienceLevel"), experienceLevel)));
+        }
+
+        targets.add(facets.getWorkplace());
+        keys.add("remote");
+        selections.add(countWhere(criteriaBuilder, criteriaBuilder.isTrue(root.get("isRemote"))));
+        targets.add(facets.getWorkplace());
+        keys.add("onSite");
+        selections.add(countWhere(criteriaBuilder, criteriaBuilder.isFalse(root.get("isRemote"))));
+
+        Expression<Integer> salary = criteriaBuilder.coalesce(root.<Integer>get("salaryMax"), root.<Integer>get("salaryMin"));
+        targets.add(facets.getSalaryRanges());
+        keys.add("unspecified");
+        selections.add(countWhere(criteriaBuilder, criteriaBuilder.isNull(salary)));
+        int lowerBound = 0;
+        for (int upperBound : SALARY_BUCKET_BOUNDS) {
+            targets.add(facets.getSalaryRanges());
+            keys.add(lowerBound + "-" + upperBound);
+            selections.add(countWhere(criteriaBuilder, criteriaBuilder.and(
+                    criteriaBuilder.greaterThanOrEqualTo(salary, lowerBound),
+                    criteriaBuilder.lessThan(salary, upperBound)
+            )));
+            lowerBound = upperBound;
+        }
+        targets.add(facets.getSalaryRanges());
+        keys.add(lowerBound + "+");
+        selections.add(countWhere(criteriaBuilder, criteriaBuilder.greaterThanOrEqualTo(salary, lowerBound)));
+
+        query.multiselect(selections);
+        Tuple row = entityManager.createQuery(query).getSingleResult();
+
+        for (int i = 0; i < keys.size(); i++) {
+            Long count = row.get(i, Long.class);
+            targets.get(i).put(keys.get(i), count != null ? count : 0L);
+        }
+
+        return facets;
+    }
+
+    private Expression<Long> countWhere(CriteriaBuilder criteriaBuilder, Predicate condition) {
+        return criteriaBuilder.sum(criteriaBuilder.<Long>selectCase().when(condition, 1L).otherwise(0L));
+    }
+
+    private Specification<JobPost> buildKeysetSpecification(JobSearchCursor cursor, Sort.Direction direction) {
+        return (root, query, criteriaBuilder) -> {
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("id");
+
+            if (direction == Sort.Direction.ASC) {
+                return criteriaBuilder.or(
+                        criteriaBuilder.greaterThan(createdAt, cursor.getCreatedAt()),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(createdAt, cursor.getCreatedAt()),
+                                criteriaBuilder.greaterThan(id, cursor.getId())
+                        )
+                );
+            }
+
+            return criteriaBuilder.or(
+                    criteriaBuilder.lessThan(createdAt, cursor.getCreatedAt()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(createdAt, cursor.getCreatedAt()),
+                            criteriaBuilder.lessThan(id, cursor.getId())
+                    )
+            );
+        };
+    }
+
     private Sort buildSort(JobSearchRequest searchRequest) {
         String sortBy = searchRequest.getSortBy() != null ? searchRequest.getSortBy() : "createdAt";
         String direction = searchRequest.getSortDirection() != null ? searchRequest.getSortDirection() : "DESC";
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") ? Sort.Direction.ASC : Sort.Direction.DESC;
 
+        if (isRelevanceSort(searchRequest)) {
+            // Ordered by ts_rank inside the specification
+            return Sort.unsorted();
+        }
+
         switch (sortBy) {
             case "salaryMax":
                 return Sort.by(sortDirection, "salaryMax").and(Sort.by(Sort.Direction.DESC, "createdAt"));
@@ -244,6 +522,14 @@ public class JobSearchService {
         }
     }
 
+    private boolean hasKeywords(JobSearchRequest searchRequest) {
+        return searchRequest.getKeywords() != null && !searchRequest.getKeywords().isBlank();
+    }
+
+    private boolean isRelevanceSort(JobSearchRequest searchRequest) {
+        return "relevance".equalsIgnoreCase(searchRequest.getSortBy()) && hasKeywords(searchRequest);
+    }
+
     private LocalDateTime calculatePostedWithinDate(String postedWithin) {
         LocalDateTime now = LocalDateTime.now();
         switch (postedWithin.toLowerCase()) {
@@ -263,7 +549,7 @@ public class JobSearchService {
         }
     }
 
-    private JobListResponse mapToJobListResponse(JobPost jobPost, User user) {
+    JobListResponse mapToJobListResponse(JobPost jobPost) {
         JobListResponse response = new JobListResponse();
         response.setId(jobPost.getId().toString());
         response.setTitle(jobPost.getTitle());
@@ -289,11 +575,7 @@ public class JobSearchService {
         response.setApplicationCount(jobPost.getApplicationCount());
         response.setCreatedAt(jobPost.getCreatedAt());
 
-        Boolean isSaved = false;
-        if (user != null) {
-            isSaved = savedJobRepository.existsByUserAndJobPost(user, jobPost);
-        }
-        response.setIsSaved(isSaved);
+        response.setIsSaved(false);
 
         return response;
     }
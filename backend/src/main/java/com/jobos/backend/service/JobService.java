@@ -36,17 +36,23 @@ public class JobService {
     private final PosterProfileRepository posterProfileRepository;
     private final SavedJobRepository savedJobRepository;
     private final ObjectMapper objectMapper;
+    private final JobSearchCache jobSearchCache;
+    private final JobViewCounter jobViewCounter;
 
     public JobService(JobPostRepository jobPostRepository,
                      UserRepository userRepository,
                      PosterProfileRepository posterProfileRepository,
                      SavedJobRepository savedJobRepository,
-                     ObjectMapper objectMapper) {
+                     ObjectMapper objectMapper,
+                     JobSearchCache jobSearchCache,
+                     JobViewCounter jobViewCounter) {
         this.jobPostRepository = jobPostRepository;
         this.userRepository = userRepository;
         this.posterProfileRepository = posterProfileRepository;
         this.savedJobRepository = savedJobRepository;
         this.objectMapper = objectMapper;
+        this.jobSearchCache = jobSearchCache;
+        this.jobViewCounter = jobViewCounter;
     }
 
     @Transactional
@@ -99,6 +105,7 @@ public class JobService {
         } catch (JsonProcessingException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to process skills");
         }
+        jobPost.replaceSkillTokens(request.getSkills());
 
         jobPost.setDescription(request.getDescription());
         jobPost.setResponsibilities(request.getResponsibilities());
@@ -120,6 +127,9 @@ public class JobService {
         jobPost.setApplicationCount(0);
 
         JobPost saved = jobPostRepository.save(jobPost);
+        if (status == JobStatus.ACTIVE) {
+            jobSearchCache.invalidateAfterCommit();
+        }
         return mapToJobPostResponse(saved, null);
     }
 
@@ -147,13 +157,12 @@ public class JobService {
         return jobPosts.map(this::mapToJobListResponse);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public JobPostResponse getJobById(UUID jobId, UUID userId) {
         JobPost jobPost = jobPostRepository.findById(jobId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found"));
 
-        jobPost.incrementViewCount();
-        jobPostRepository.save(jobPost);
+        jobViewCounter.recordView(jobId);
 
         Boolean isSaved = null;
         if (userId != null) {
@@ -178,6 +187,8 @@ public class JobService {
 
         validateJobPostUpdateRequest(request);
 
+        boolean wasActive = jobPost.getStatus() == JobStatus.ACTIVE;
+
         if (request.getTitle() != null) jobPost.setTitle(request.getTitle());
         if (request.getCompany() != null) jobPost.setCompany(request.getCompany());
         if (request.getLocation() != null) jobPost.setLocation(request.getLocation());
@@ -209,6 +220,7 @@ public class JobService {
             } catch (JsonProcessingException e) {
                 throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to process skills");
             }
+            jobPost.replaceSkillTokens(request.getSkills());
         }
 
         if (request.getDescription() != null) jobPost.setDescription(request.getDescription());
@@ -232,6 +244,9 @@ public class JobService {
         }
 
         JobPost updated = jobPostRepository.save(jobPost);
+        if (wasActive || updated.getStatus() == JobStatus.ACTIVE) {
+            jobSearchCache.invalidateAfterCommit();
+        }
         return mapToJobPostResponse(updated, null);
     }
 
@@ -245,9 +260,13 @@ public class JobService {
                         .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found")))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found or unauthorized"));
 
+        boolean wasActive = jobPost.getStatus() == JobStatus.ACTIVE;
         jobPost.setStatus(JobStatus.CLOSED);
         jobPost.setClosedAt(LocalDateTime.now());
         jobPostRepository.save(jobPost);
+        if (wasActive) {
+            jobSearchCache.invalidateAfterCommit();
+        }
     }
 
     @Transactional
@@ -267,6 +286,7 @@ public class JobService {
         jobPost.setStatus(JobStatus.ACTIVE);
         jobPost.setClosedAt(null);
         jobPostRepository.save(jobPost);
+        jobSearchCache.invalidateAfterCommit();
     }
 
     private void validateJobPostRequest(JobPostRequest request) {
@@ -360,7 +380,7 @@ public class JobService {
         response.setBenefits(jobPost.getBenefits());
         response.setApplicationDeadline(jobPost.getApplicationDeadline());
         response.setStatus(jobPost.getStatus().name());
-        response.setViewCount(jobPost.getViewCount());
+        response.setViewCount((int) (jobPost.getViewCount() + jobViewCounter.pendingViews(jobPost.getId())));
         response.setApplicationCount(jobPost.getApplicationCount());
         response.setCreatedAt(jobPost.getCreatedAt());
         response.setUpdatedAt(jobPost.getUpdatedAt());
@@ -0,0 +1,80 @@
+package com.jobos.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind job view counter. Views are accumulated in memory and flushed as
+ * batched relative updates, so detail reads never lock or rewrite the job row.
+ */
+@Component
+public class JobViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobViewCounter.class);
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentHashMap<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public JobViewCounter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void recordView(UUID jobId) {
+        pending.computeIfAbsent(jobId, id -> new LongAdder()).increment();
+    }
+
+    public long pendingViews(UUID jobId) {
+        LongAdder adder = pending.get(jobId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${job-views.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<UUID, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                // Idle for a whole interval; a view racing this removal can be lost, which is acceptable for a view counter
+                pending.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            batch.add(new Object[]{delta, entry.getKey()});
+            if (batch.size() == FLUSH_BATCH_SIZE) {
+                write(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private void write(List<Object[]> batch) {
+        try {
+            jdbcTemplate.batchUpdate("UPDATE job_posts SET view_count = view_count + ? WHERE id = ?", batch);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to flush {} job view deltas, retrying next cycle: {}", batch.size(), e.getMessage());
+            for (Object[] row : batch) {
+                pending.computeIfAbsent((UUID) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+        }
+    }
+}
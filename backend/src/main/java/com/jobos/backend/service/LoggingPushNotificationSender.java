@@ -0,0 +1,32 @@
+package com.jobos.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Stand-in sender for local runs and tests: logs each message and reports it as delivered.
+ */
+@Service
+@ConditionalOnProperty(name = "notifications.push.sender", havingValue = "log")
+public class LoggingPushNotificationSender implements PushNotificationSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingPushNotificationSender.class);
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public List<PushSendResult> sendBatch(List<PushMessage> messages) {
+        for (PushMessage message : messages) {
+            logger.info("Push to {}...: {} - {}", message.token().substring(0, Math.min(10, message.token().length())),
+                    message.title(), message.body());
+        }
+        return messages.stream().map(message -> PushSendResult.sent()).toList();
+    }
+}
@@ -3,9 +3,11 @@ package com.jobos.backend.service;
 import com.jobos.backend.domain.notification.Notification;
 import com.jobos.backend.domain.notification.NotificationPreference;
 import com.jobos.backend.domain.notification.NotificationType;
+import com.jobos.backend.domain.notification.PushOutbox;
 import com.jobos.backend.domain.user.User;
 import com.jobos.backend.repository.NotificationPreferenceRepository;
 import com.jobos.backend.repository.NotificationRepository;
+import com.jobos.backend.repository.PushOutboxRepository;
 import com.jobos.backend.repository.UserRepository;
 import com.jobos.shared.dto.notification.NotificationPreferenceResponse;
 import com.jobos.shared.dto.notification.NotificationResponse;
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Service
@@ -29,16 +32,19 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final NotificationPreferenceRepository preferenceRepository;
     private final UserRepository userRepository;
-    private final FirebaseMessagingService firebaseMessagingService;
+    private final PushOutboxRepository pushOutboxRepository;
+    private final PushNotificationSender pushNotificationSender;
 
     public NotificationService(NotificationRepository notificationRepository,
                               NotificationPreferenceRepository preferenceRepository,
                               UserRepository userRepository,
-                              FirebaseMessagingService firebaseMessagingService) {
+                              PushOutboxRepository pushOutboxRepository,
+                              PushNotificationSender pushNotificationSender) {
         this.notificationRepository = notificationRepository;
         this.preferenceRepository = preferenceRepository;
         this.userRepository = userRepository;
-        this.firebaseMessagingService = firebaseMessagingService;
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.pushNotificationSender = pushNotificationSender;
     }
 
     @Transactional(readOnly = true)
@@ -95,38 +101,46 @@ public class NotificationService {
         notification.setIsRead(false);
         notificationRepository.save(notification);
 
-        sendPushNotificationIfEnabled(user, type, title, message, actionUrl);
+        enqueuePushNotificationIfEnabled(user, type, title, message, actionUrl);
     }
 
-    private void sendPushNotificationIfEnabled(User user, NotificationType type, String title, String message, String actionUrl) {
-        try {
-            NotificationPreference pref = preferenceRepository.findByUser(user).orElse(null);
-            
-            if (pref == null) {
-                logger.debug("No preferences found for user {}, skipping push notification", user.getId());
-                return;
-            }
-
-            if (!Boolean.TRUE.equals(pref.getPushEnabled())) {
-                logger.debug("Push notifications disabled for user {}", user.getId());
-                return;
-            }
-
-            if (!isNotificationTypeEnabled(pref, type)) {
-                logger.debug("Notification type {} disabled for user {}", type, user.getId());
-                return;
-            }
-
-            String fcmToken = user.getFcmToken();
-            if (fcmToken == null || fcmToken.isEmpty()) {
-                logger.debug("No FCM token for user {}, skipping push notification", user.getId());
-                return;
-            }
-
-            firebaseMessagingService.sendPushNotification(fcmToken, title, message, actionUrl);
-        } catch (Exception e) {
-            logger.error("Failed to send push notification to user {}: {}", user.getId(), e.getMessage());
+    // Written to the outbox in the caller's transaction; PushOutboxDispatcher delivers it after commit
+    private void enqueuePushNotificationIfEnabled(User user, NotificationType type, String title, String message, String actionUrl) {
+        if (!pushNotificationSender.isAvailable()) {
+            return;
         }
+
+        NotificationPreference pref = preferenceRepository.findByUser(user).orElse(null);
+
+        if (pref == null) {
+            logger.debug("No preferences found for user {}, skipping push notification", user.getId());
+            return;
+        }
+
+        if (!Boolean.TRUE.equals(pref.getPushEnabled())) {
+            logger.debug("Push notifications disabled for user {}", user.getId());
+            return;
+        }
+
+        if (!isNotificationTypeEnabled(pref, type)) {
+            logger.debug("Notification type {} disabled for user {}", type, user.getId());
+            return;
+        }
+
+        String fcmToken = user.getFcmToken();
+        if (fcmToken == null || fcmToken.isEmpty()) {
+            logger.debug("No FCM token for user {}, skipping push notification", user.getId());
+            return;
+        }
+
+        PushOutbox outbox = new PushOutbox();
+        outbox.setUserId(user.getId());
+        outbox.setFcmToken(fcmToken);
+        outbox.setTitle(title);
+        outbox.setBody(message);
+        outbox.setActionUrl(actionUrl);
+        outbox.setNextAttemptAt(Instant.now());
+        pushOutboxRepository.save(outbox);
     }
 
     private boolean isNotificationTypeEnabled(NotificationPreference pref, NotificationType type) {
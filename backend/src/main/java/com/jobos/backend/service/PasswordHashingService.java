@@ -0,0 +1,108 @@
+package com.jobos.backend.service;
+
+import com.jobos.backend.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt on a fixed pool sized to the CPU count so a login storm cannot occupy every servlet
+ * thread. The queue is bounded; once it is full, callers get a 503 with Retry-After instead of waiting.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${auth.hashing.threads:0}") int threads,
+            @Value("${auth.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.hashing.retry-after-seconds:2}") long retryAfterSeconds
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hashing.duration").tag("operation", "encode")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.matchTimer = Timer.builder("password.hashing.duration").tag("operation", "matches")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hashing.queue.wait")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected").register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> matchTimer.recordCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("Authentication service is busy. Please retry shortly.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
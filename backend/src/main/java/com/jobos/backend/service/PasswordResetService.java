@@ -6,13 +6,15 @@ import com.jobos.backend.exception.*;
 import com.jobos.backend.repository.PasswordResetTokenRepository;
 import com.jobos.backend.repository.RefreshTokenRepository;
 import com.jobos.backend.repository.UserRepository;
+import com.jobos.backend.security.SessionCache;
 import com.jobos.shared.dto.auth.ChangePasswordRequest;
 import com.jobos.shared.dto.auth.ForgotPasswordRequest;
 import com.jobos.shared.dto.auth.ResetPasswordRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
@@ -34,22 +36,31 @@ public class PasswordResetService {
     private final PasswordResetTokenRepository resetTokenRepository;
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final EmailService emailService;
+    private final SessionCache sessionCache;
+    private final TransactionTemplate transactionTemplate;
     private final SecureRandom secureRandom = new SecureRandom();
 
+    private record OtpCheck(UUID tokenId, RuntimeException failure) {
+    }
+
     public PasswordResetService(
             PasswordResetTokenRepository resetTokenRepository,
             UserRepository userRepository,
             RefreshTokenRepository refreshTokenRepository,
-            PasswordEncoder passwordEncoder,
-            EmailService emailService
+            PasswordHashingService passwordHashingService,
+            EmailService emailService,
+            SessionCache sessionCache,
+            PlatformTransactionManager transactionManager
     ) {
         this.resetTokenRepository = resetTokenRepository;
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.emailService = emailService;
+        this.sessionCache = sessionCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Transactional
@@ -83,65 +94,99 @@ public class PasswordResetService {
         emailService.sendOtpEmail(email, otp);
     }
 
-    @Transactional(noRollbackFor = {InvalidTokenException.class, OtpAttemptsExceededException.class})
+    // Not @Transactional: the OTP is checked in one short transaction and the new hash applied in another,
+    // so no pooled connection is held while BCrypt runs in between
     public void resetPassword(ResetPasswordRequest request) {
         String email = request.getEmail().toLowerCase().trim();
-        String otp = request.getOtp();
-
-        PasswordResetToken token = resetTokenRepository.findByEmailAndUsedAtIsNull(email)
-                .orElseThrow(() -> new InvalidTokenException("Invalid or expired OTP"));
 
-        if (token.isUsed()) {
-            throw new InvalidTokenException("OTP has already been used");
+        OtpCheck check = transactionTemplate.execute(status -> verifyOtp(email, request.getOtp()));
+        if (check.failure() != null) {
+            // Thrown after commit so a failed attempt is still recorded
+            throw check.failure();
         }
 
-        if (token.isExpired()) {
-            throw new OtpExpiredException("OTP has expired. Please request a new one");
-        }
+        String passwordHash = passwordHashingService.encode(request.getNewPassword());
 
-        if (token.isMaxAttemptsReached()) {
-            throw new OtpAttemptsExceededException("Maximum OTP attempts exceeded. Please request a new OTP");
-        }
+        transactionTemplate.executeWithoutResult(status -> {
+            // The token must still be the unused one that was verified
+            PasswordResetToken token = resetTokenRepository.findByEmailAndUsedAtIsNull(email)
+                    .filter(current -> current.getId().equals(check.tokenId()))
+                    .orElseThrow(() -> new InvalidTokenException("Invalid or expired OTP"));
 
-        String otpHash = hashOtp(otp);
-        if (!token.getOtpHash().equals(otpHash)) {
-            token.incrementAttempts();
-            int remainingAttempts = token.getMaxAttempts() - token.getAttempts();
-            resetTokenRepository.saveAndFlush(token);
-            
-            if (remainingAttempts > 0) {
-                throw new InvalidTokenException("Invalid OTP. " + remainingAttempts + " attempts remaining");
-            } else {
-                throw new OtpAttemptsExceededException("Maximum OTP attempts exceeded. Please request a new OTP");
-            }
-        }
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
+            user.setPasswordHash(passwordHash);
+            userRepository.save(user);
 
-        refreshTokenRepository.deleteByUser_Id(user.getId());
+            refreshTokenRepository.deleteByUser_Id(user.getId());
+            sessionCache.revokeUser(user.getId());
 
-        token.setUsedAt(LocalDateTime.now());
-        resetTokenRepository.save(token);
+            token.setUsedAt(LocalDateTime.now());
+            resetTokenRepository.save(token);
+        });
     }
 
-    @Transactional
+    // Not @Transactional: both BCrypt calls run before the transaction that writes the new hash
     public void changePassword(UUID userId, ChangePasswordRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         // Verify old password
-        if (!passwordEncoder.matches(request.getOldPassword(), user.getPasswordHash())) {
+        String verifiedHash = user.getPasswordHash();
+        if (!passwordHashingService.matches(request.getOldPassword(), verifiedHash)) {
             throw new InvalidCredentialsException("Current password is incorrect");
         }
 
-        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
+        String passwordHash = passwordHashingService.encode(request.getNewPassword());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User current = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+            // A password change or reset that landed while hashing invalidates the old password check
+            if (!current.getPasswordHash().equals(verifiedHash)) {
+                throw new InvalidCredentialsException("Current password is incorrect");
+            }
+
+            current.setPasswordHash(passwordHash);
+            userRepository.save(current);
+
+            refreshTokenRepository.deleteByUser_Id(userId);
+            sessionCache.revokeUser(userId);
+        });
+    }
+
+    private OtpCheck verifyOtp(String email, String otp) {
+        PasswordResetToken token = resetTokenRepository.findByEmailAndUsedAtIsNull(email).orElse(null);
+        if (token == null) {
+            return new OtpCheck(null, new InvalidTokenException("Invalid or expired OTP"));
+        }
+
+        if (token.isUsed()) {
+            return new OtpCheck(null, new InvalidTokenException("OTP has already been used"));
+        }
+
+        if (token.isExpired()) {
+            return new OtpCheck(null, new OtpExpiredException("OTP has expired. Please request a new one"));
+        }
+
+        if (token.isMaxAttemptsReached()) {
+            return new OtpCheck(null, new OtpAttemptsExceededException("Maximum OTP attempts exceeded. Please request a new OTP"));
+        }
+
+        String otpHash = hashOtp(otp);
+        if (!token.getOtpHash().equals(otpHash)) {
+            token.incrementAttempts();
+            int remainingAttempts = token.getMaxAttempts() - token.getAttempts();
+            resetTokenRepository.save(token);
+
+            if (remainingAttempts > 0) {
+                return new OtpCheck(null, new InvalidTokenException("Invalid OTP. " + remainingAttempts + " attempts remaining"));
+            }
+            return new OtpCheck(null, new OtpAttemptsExceededException("Maximum OTP attempts exceeded. Please request a new OTP"));
+        }
 
-        refreshTokenRepository.deleteByUser_Id(userId);
+        return new OtpCheck(token.getId(), null);
     }
 
     private String generateOtp() {
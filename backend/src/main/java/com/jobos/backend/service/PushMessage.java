@@ -0,0 +1,6 @@
+package com.jobos.backend.service;
+
+import java.util.Map;
+
+public record PushMessage(String token, String title, String body, Map<String, String> data) {
+}
@@ -0,0 +1,17 @@
+package com.jobos.backend.service;
+
+import java.util.List;
+
+/**
+ * Delivers push messages to device tokens. Selected with {@code notifications.push.sender}
+ * ({@code firebase} by default, {@code log} for local runs without Firebase credentials).
+ */
+public interface PushNotificationSender {
+
+    boolean isAvailable();
+
+    /**
+     * Sends the messages and returns one result per message, in the same order.
+     */
+    List<PushSendResult> sendBatch(List<PushMessage> messages);
+}
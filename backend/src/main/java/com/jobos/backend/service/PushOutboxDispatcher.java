@@ -0,0 +1,269 @@
+package com.jobos.backend.service;
+
+import com.jobos.backend.domain.notification.PushOutbox;
+import com.jobos.backend.domain.notification.PushOutboxStatus;
+import com.jobos.backend.repository.PushOutboxRepository;
+import com.jobos.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers push notifications recorded in the outbox. Each worker on a bounded pool claims a batch
+ * in a short transaction, hands the whole batch to the sender as one multicast call outside any
+ * transaction, and writes the outcome back in a second short transaction. Failed sends are retried
+ * with exponential backoff and dead-lettered after the configured number of attempts; tokens FCM
+ * reports as unregistered are cleared from their users, while messages FCM rejects are dead-lettered
+ * without touching the token.
+ */
+@Component
+public class PushOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PushOutboxDispatcher.class);
+    private static final String WRITE_OUTCOME_SQL = """
+            UPDATE push_outbox SET status = ?, attempts = ?, next_attempt_at = ?, last_error = ?, sent_at = ?
+            WHERE id = ?
+            """;
+    private static final int[] WRITE_OUTCOME_TYPES = {
+            Types.VARCHAR, Types.INTEGER, Types.TIMESTAMP, Types.VARCHAR, Types.TIMESTAMP, Types.OTHER
+    };
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PushNotificationSender pushNotificationSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService senderPool;
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private final Map<PushSendResult.Outcome, Counter> outcomeCounters = new EnumMap<>(PushSendResult.Outcome.class);
+    private final Counter deadLetterCounter;
+    private final Timer sendTimer;
+
+    private final int concurrency;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration sentRetention;
+
+    public PushOutboxDispatcher(
+            PushOutboxRepository pushOutboxRepository,
+            UserRepository userRepository,
+            JdbcTemplate jdbcTemplate,
+            PushNotificationSender pushNotificationSender,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${notifications.outbox.concurrency:4}") int concurrency,
+            @Value("${notifications.outbox.batch-size:500}") int batchSize,
+            @Value("${notifications.outbox.max-attempts:6}") int maxAttempts,
+            @Value("${notifications.outbox.base-backoff-ms:2000}") long baseBackoffMs,
+            @Value("${notifications.outbox.max-backoff-ms:300000}") long maxBackoffMs,
+            @Value("${notifications.outbox.lease-seconds:60}") long leaseSeconds,
+            @Value("${notifications.outbox.sent-retention-days:7}") long sentRetentionDays
+    ) {
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.pushNotificationSender = pushNotificationSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.concurrency = concurrency;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.sentRetention = Duration.ofDays(sentRetentionDays);
+
+        for (PushSendResult.Outcome outcome : PushSendResult.Outcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("push.notifications")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.deadLetterCounter = Counter.builder("push.notifications.dead").register(meterRegistry);
+        this.sendTimer = Timer.builder("push.send.batch").register(meterRegistry);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senderPool = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "push-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.outbox.poll-interval-ms:1000}")
+    public void dispatchPending() {
+        if (!dispatching.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // SKIP LOCKED hands every worker a disjoint batch, so the pool sends several full batches at once
+            List<CompletableFuture<Void>> workers = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(CompletableFuture.runAsync(this::drainDue, senderPool));
+            }
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).join();
+        } catch (Exception e) {
+            logger.error("Push outbox dispatch failed: {}", e.getMessage());
+        } finally {
+            dispatching.set(false);
+        }
+    }
+
+    @Scheduled(cron = "${notifications.outbox.cleanup-cron:0 15 4 * * *}")
+    public void purgeSent() {
+        Integer purged = transactionTemplate.execute(status ->
+                pushOutboxRepository.deleteSentBefore(Instant.now().minus(sentRetention)));
+        if (purged != null && purged > 0) {
+            logger.info("Purged {} delivered push outbox rows", purged);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        senderPool.shutdown();
+        if (!senderPool.awaitTermination(10, TimeUnit.SECONDS)) {
+            senderPool.shutdownNow();
+        }
+    }
+
+    // Claimed rows get their next_attempt_at pushed out by the lease, so a crashed dispatcher's rows become due again
+    private List<PushOutbox> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<PushOutbox> due = pushOutboxRepository.lockDue(now, batchSize);
+            if (!due.isEmpty()) {
+                pushOutboxRepository.extendLease(due.stream().map(PushOutbox::getId).toList(), now.plus(lease));
+            }
+            return due;
+        });
+    }
+
+    private void drainDue() {
+        List<PushOutbox> batch;
+        do {
+            batch = claimBatch();
+            if (!batch.isEmpty()) {
+                deliver(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private void deliver(List<PushOutbox> batch) {
+        Set<String> invalidTokens = new HashSet<>();
+        send(batch, invalidTokens);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            writeOutcomes(batch);
+            if (!invalidTokens.isEmpty()) {
+                int cleared = userRepository.clearFcmTokens(invalidTokens);
+                logger.info("Cleared {} invalid FCM tokens", cleared);
+            }
+        });
+    }
+
+    // The rows are detached by now, so a merge would re-read each one; a single batched UPDATE writes them blind
+    private void writeOutcomes(List<PushOutbox> batch) {
+        List<Object[]> rows = batch.stream()
+                .map(row -> new Object[]{
+                        row.getStatus().name(),
+                        row.getAttempts(),
+                        Timestamp.from(row.getNextAttemptAt()),
+                        row.getLastError(),
+                        row.getSentAt() != null ? Timestamp.from(row.getSentAt()) : null,
+                        row.getId()
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(WRITE_OUTCOME_SQL, rows, WRITE_OUTCOME_TYPES);
+    }
+
+    private void send(List<PushOutbox> rows, Set<String> invalidTokens) {
+        List<PushMessage> messages = rows.stream()
+                .map(row -> new PushMessage(row.getFcmToken(), row.getTitle(), row.getBody(),
+                        row.getActionUrl() != null && !row.getActionUrl().isEmpty() ? Map.of("actionUrl", row.getActionUrl()) : Map.of()))
+                .toList();
+
+        List<PushSendResult> results;
+        long start = System.nanoTime();
+        try {
+            results = pushNotificationSender.sendBatch(messages);
+        } catch (Exception e) {
+            results = messages.stream().map(message -> PushSendResult.failed(e.getMessage())).toList();
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            PushOutbox row = rows.get(i);
+            PushSendResult result = results.get(i);
+            outcomeCounters.get(result.outcome()).increment();
+            row.setAttempts(row.getAttempts() + 1);
+
+            switch (result.outcome()) {
+                case SENT -> {
+                    row.setStatus(PushOutboxStatus.SENT);
+                    row.setSentAt(Instant.now());
+                    row.setLastError(null);
+                }
+                case INVALID_TOKEN -> {
+                    invalidTokens.add(row.getFcmToken());
+                    deadLetter(row, result.error());
+                }
+                case REJECTED -> deadLetter(row, result.error());
+                case FAILED -> {
+                    if (row.getAttempts() >= maxAttempts) {
+                        deadLetter(row, result.error());
+                    } else {
+                        row.setLastError(truncate(result.error()));
+                        row.setNextAttemptAt(Instant.now().plus(backoff(row.getAttempts())));
+                    }
+                }
+            }
+        }
+    }
+
+    private void deadLetter(PushOutbox row, String error) {
+        row.setStatus(PushOutboxStatus.DEAD);
+        row.setLastError(truncate(error));
+        deadLetterCounter.increment();
+        logger.warn("Push outbox row {} dead-lettered after {} attempts: {}", row.getId(), row.getAttempts(), error);
+    }
+
+    private Duration backoff(int attempt) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String value) {
+        if (value == null) {
+            return "Delivery failed";
+        }
+        return value.length() > 1000 ? value.substring(0, 1000) : value;
+    }
+}
@@ -0,0 +1,28 @@
+package com.jobos.backend.service;
+
+public record PushSendResult(Outcome outcome, String error) {
+
+    public enum Outcome {
+        SENT,
+        INVALID_TOKEN,
+        // The message itself is unacceptable (bad payload), so retrying cannot help but the token is still valid
+        REJECTED,
+        FAILED
+    }
+
+    public static PushSendResult sent() {
+        return new PushSendResult(Outcome.SENT, null);
+    }
+
+    public static PushSendResult invalidToken(String error) {
+        return new PushSendResult(Outcome.INVALID_TOKEN, error);
+    }
+
+    public static PushSendResult rejected(String error) {
+        return new PushSendResult(Outcome.REJECTED, error);
+    }
+
+    public static PushSendResult failed(String error) {
+        return new PushSendResult(Outcome.FAILED, error);
+    }
+}
@@ -0,0 +1,127 @@
+package com.jobos.backend;
+
+import com.jobos.backend.domain.job.ExperienceLevel;
+import com.jobos.backend.domain.job.JobPost;
+import com.jobos.backend.domain.job.JobStatus;
+import com.jobos.backend.domain.job.JobType;
+import com.jobos.backend.domain.user.User;
+import com.jobos.backend.domain.user.UserRole;
+import com.jobos.backend.repository.JobPostRepository;
+import com.jobos.backend.repository.UserRepository;
+import com.jobos.backend.security.AuthenticatedUser;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+
+/**
+ * Boots the whole application against one embedded PostgreSQL shared by every integration test in the JVM.
+ * Tests do not clean up after themselves, so each one creates its own users and jobs and only asserts on those.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class PostgresIntegrationTest {
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+    private static final Path RENDER_CACHE_DIR = createRenderCacheDir();
+
+    @Autowired
+    protected WebApplicationContext context;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected JobPostRepository jobPostRepository;
+
+    protected MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        // Rendered CVs go to a directory of this run's own rather than the shared default under java.io.tmpdir
+        registry.add("cv-render.cache-dir", RENDER_CACHE_DIR::toString);
+    }
+
+    @BeforeEach
+    void setUpMockMvc() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    protected User createUser(UserRole role) {
+        User user = new User();
+        user.setEmail(role.name().toLowerCase() + "-" + UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("not-a-real-hash");
+        user.setRole(role);
+        user.setFirstName("Test");
+        user.setLastName(role.name());
+        return userRepository.save(user);
+    }
+
+    protected List<JobPost> createActiveJobs(User poster, String title, int count) {
+        List<JobPost> jobs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            JobPost job = new JobPost();
+            job.setPoster(poster);
+            job.setTitle(title + " " + i);
+            job.setCompany("Acme");
+            job.setLocation("Remote");
+            job.setJobType(JobType.FULL_TIME);
+            job.setExperienceLevel(ExperienceLevel.MID);
+            job.setDescription("Integration test job " + i);
+            job.setSkills("[\"Java\"]");
+            job.replaceSkillTokens(List.of("Java"));
+            job.setStatus(JobStatus.ACTIVE);
+            jobs.add(job);
+        }
+        return jobPostRepository.saveAll(jobs);
+    }
+
+    /**
+     * Authenticates a request as {@code user} the way JwtAuthenticationFilter would after validating a token.
+     */
+    protected static RequestPostProcessor as(User user) {
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole());
+        return authentication(new UsernamePasswordAuthenticationToken(principal, null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))));
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        // EmbeddedPostgres stops the server from its own shutdown hook
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start embedded PostgreSQL", e);
+        }
+    }
+
+    private static Path createRenderCacheDir() {
+        try {
+            return Files.createTempDirectory(Files.createDirectories(Path.of("build", "tmp")), "cv-renders-");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create the CV render cache directory", e);
+        }
+    }
+}
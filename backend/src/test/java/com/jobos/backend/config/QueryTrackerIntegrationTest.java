@@ -0,0 +1,72 @@
+package com.jobos.backend.config;
+
+import com.jobos.backend.PostgresIntegrationTest;
+import com.jobos.backend.domain.job.JobPost;
+import com.jobos.backend.domain.user.User;
+import com.jobos.backend.domain.user.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class QueryTrackerIntegrationTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void countsJdbcTemplateAndHibernateStatementsOnceEach() {
+        User user = createUser(UserRole.SEEKER);
+
+        try (QueryTracker.Scope scope = QueryTracker.open()) {
+            jdbcTemplate.queryForObject("SELECT count(*) FROM users WHERE id = ?", Long.class, user.getId());
+            userRepository.findById(user.getId());
+
+            assertThat(scope.getStatementCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void countingProxiesKeepTheirOwnIdentity() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Connection other = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertThat(connection).isEqualTo(connection).isNotEqualTo(other);
+            assertThat(connection.hashCode()).isEqualTo(System.identityHashCode(connection));
+            assertThat(statement).isEqualTo(statement);
+            assertThat(statement.hashCode()).isEqualTo(System.identityHashCode(statement));
+        }
+    }
+
+    @Test
+    void jobDetailsStayWithinStatementBound() throws Exception {
+        User poster = createUser(UserRole.POSTER);
+        User seeker = createUser(UserRole.SEEKER);
+        JobPost job = createActiveJobs(poster, "Platform engineer", 1).get(0);
+
+        // Job, seeker, saved-job check and the lazily loaded poster
+        QueryTracker.assertMaxStatements(4, () -> mockMvc.perform(get("/api/jobs/{id}", job.getId()).with(as(seeker)))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void failsWhenBoundIsExceeded() {
+        assertThatThrownBy(() -> QueryTracker.assertMaxStatements(1, () -> {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return jdbcTemplate.queryForObject("SELECT 2", Integer.class);
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Expected at most 1 SQL statements but 2 were executed");
+    }
+}
@@ -0,0 +1,157 @@
+package com.jobos.backend.controller;
+
+import com.jobos.backend.PostgresIntegrationTest;
+import com.jobos.backend.domain.cv.CV;
+import com.jobos.backend.domain.cv.CVSection;
+import com.jobos.backend.domain.cv.CVSectionType;
+import com.jobos.backend.domain.user.User;
+import com.jobos.backend.domain.user.UserRole;
+import com.jobos.backend.repository.CVRepository;
+import com.jobos.backend.repository.CVSectionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CVRenderCacheTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private CVRepository cvRepository;
+
+    @Autowired
+    private CVSectionRepository cvSectionRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${cv-render.cache-dir}")
+    private Path cacheDir;
+
+    private User owner;
+    private CV cv;
+    private CVSection section;
+
+    @BeforeEach
+    void createCv() throws Exception {
+        // Cached files are keyed by content, and every test renders the same CV content
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+
+        owner = createUser(UserRole.SEEKER);
+        CV newCv = new CV();
+        newCv.setUser(owner);
+        newCv.setTitle("Render target");
+        cv = cvRepository.save(newCv);
+
+        CVSection newSection = new CVSection();
+        newSection.setCv(cv);
+        newSection.setSectionType(CVSectionType.SKILLS);
+        newSection.setTitle("Skills");
+        newSection.setContent("{\"primary\": [\"Java\", \"PostgreSQL\"]}");
+        newSection.setOrderIndex(0);
+        section = cvSectionRepository.save(newSection);
+    }
+
+    @Test
+    void secondRenderIsServedFromCache() throws Exception {
+        double hits = cacheCount("hit");
+        double misses = cacheCount("miss");
+
+        MvcResult first = mockMvc.perform(render("html"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andReturn();
+        assertThat(cacheCount("miss")).isEqualTo(misses + 1);
+        assertThat(cacheCount("hit")).isEqualTo(hits);
+        String body = first.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).contains(cv.getTitle()).contains("PostgreSQL");
+
+        mockMvc.perform(render("html"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, first.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(content().string(body));
+        assertThat(cacheCount("miss")).isEqualTo(misses + 1);
+        assertThat(cacheCount("hit")).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() throws Exception {
+        String eTag = mockMvc.perform(render("html"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(render("html").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnsweredWithoutRenderingAfterEviction() throws Exception {
+        String eTag = mockMvc.perform(render("pdf"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Files.delete(cacheDir.resolve(eTag.replace("\"", "") + ".pdf"));
+        double misses = cacheCount("miss");
+
+        mockMvc.perform(render("pdf").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        assertThat(cacheCount("miss")).isEqualTo(misses);
+    }
+
+    @Test
+    void editedSectionMissesCacheWithNewETag() throws Exception {
+        String eTag = mockMvc.perform(render("html"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        double misses = cacheCount("miss");
+
+        section.setContent("{\"primary\": [\"Java\", \"Kotlin\"]}");
+        cvSectionRepository.save(section);
+
+        MvcResult edited = mockMvc.perform(render("html").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(edited.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        assertThat(edited.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("Kotlin");
+        assertThat(cacheCount("miss")).isEqualTo(misses + 1);
+    }
+
+    @Test
+    void rendersPdf() throws Exception {
+        byte[] pdf = mockMvc.perform(render("pdf"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(new String(pdf, 0, 5, StandardCharsets.US_ASCII)).isEqualTo("%PDF-");
+    }
+
+    private MockHttpServletRequestBuilder render(String format) {
+        return get("/api/cvs/{cvId}/render", cv.getId()).param("format", format).with(as(owner));
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.counter("cv.render.cache", "result", result).count();
+    }
+}
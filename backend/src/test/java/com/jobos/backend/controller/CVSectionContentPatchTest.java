@@ -0,0 +1,195 @@
+package com.jobos.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobos.backend.PostgresIntegrationTest;
+import com.jobos.backend.domain.cv.CV;
+import com.jobos.backend.domain.cv.CVSection;
+import com.jobos.backend.domain.cv.CVSectionType;
+import com.jobos.backend.domain.user.User;
+import com.jobos.backend.domain.user.UserRole;
+import com.jobos.backend.repository.CVRepository;
+import com.jobos.backend.repository.CVSectionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CVSectionContentPatchTest extends PostgresIntegrationTest {
+
+    private static final String CONTENT = """
+            {"title": "Engineer", "skills": ["java", "sql"], "meta": {"level": 1}}
+            """;
+
+    @Autowired
+    private CVRepository cvRepository;
+
+    @Autowired
+    private CVSectionRepository cvSectionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User owner;
+    private CVSection section;
+
+    @BeforeEach
+    void createSection() {
+        owner = createUser(UserRole.SEEKER);
+        CV cv = new CV();
+        cv.setUser(owner);
+        cv.setTitle("Patch target");
+        cv = cvRepository.save(cv);
+
+        CVSection newSection = new CVSection();
+        newSection.setCv(cv);
+        newSection.setSectionType(CVSectionType.SUMMARY);
+        newSection.setTitle("Summary");
+        newSection.setContent(CONTENT);
+        newSection.setOrderIndex(0);
+        section = cvSectionRepository.save(newSection);
+    }
+
+    static Stream<Arguments> operations() {
+        return Stream.of(
+                Arguments.of("{\"op\": \"add\", \"path\": \"/summary\", \"value\": \"Hi\"}",
+                        "{\"title\": \"Engineer\", \"skills\": [\"java\", \"sql\"], \"meta\": {\"level\": 1}, \"summary\": \"Hi\"}"),
+                Arguments.of("{\"op\": \"add\", \"path\": \"/skills/1\", \"value\": \"go\"}",
+                        "{\"title\": \"Engineer\", \"skills\": [\"java\", \"go\", \"sql\"], \"meta\": {\"level\": 1}}"),
+                Arguments.of("{\"op\": \"add\", \"path\": \"/skills/2\", \"value\": \"go\"}",
+                        "{\"title\": \"Engineer\", \"skills\": [\"java\", \"sql\", \"go\"], \"meta\": {\"level\": 1}}"),
+                Arguments.of("{\"op\": \"add\", \"path\": \"/skills/-\", \"value\": \"go\"}",
+                        "{\"title\": \"Engineer\", \"skills\": [\"java\", \"sql\", \"go\"], \"meta\": {\"level\": 1}}"),
+                Arguments.of("{\"op\": \"add\", \"path\": \"/meta/note\", \"value\": null}",
+                        "{\"title\": \"Engineer\", \"skills\": [\"java\", \"sql\"], \"meta\": {\"level\": 1, \"note\": null}}"),
+                Arguments.of("{\"op\": \"remove\", \"path\": \"/skills/0\"}",
+                        "{\"title\": \"Engineer\", \"skills\": [\"sql\"], \"meta\": {\"level\": 1}}"),
+                Arguments.of("{\"op\": \"replace\", \"path\": \"/meta/level\", \"value\": 2}",
+                        "{\"title\": \"Engineer\", \"skills\": [\"java\", \"sql\"], \"meta\": {\"level\": 2}}"),
+                Arguments.of("{\"op\": \"move\", \"from\": \"/title\", \"path\": \"/headline\"}",
+                        "{\"headline\": \"Engineer\", \"skills\": [\"java\", \"sql\"], \"meta\": {\"level\": 1}}"),
+                Arguments.of("{\"op\": \"copy\", \"from\": \"/skills/0\", \"path\": \"/meta/primary\"}",
+                        "{\"title\": \"Engineer\", \"skills\": [\"java\", \"sql\"], \"meta\": {\"level\": 1, \"primary\": \"java\"}}"),
+                Arguments.of("{\"op\": \"test\", \"path\": \"/skills\", \"value\": [\"java\", \"sql\"]}", CONTENT)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("operations")
+    void appliesOperationAndBumpsVersion(String operation, String expectedContent) throws Exception {
+        patchContent(0, "[" + operation + "]")
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        assertThat(storedContent()).isEqualTo(objectMapper.readTree(expectedContent));
+        assertThat(cvSectionRepository.findVersionByIdAndCvId(section.getId(), section.getCv().getId())).contains(1L);
+    }
+
+    @Test
+    void appliesOperationsInOrder() throws Exception {
+        patchContent(0, """
+                [{"op": "test", "path": "/meta/level", "value": 1},
+                 {"op": "replace", "path": "/meta/level", "value": 2},
+                 {"op": "add", "path": "/skills/0", "value": "go"}]
+                """)
+                .andExpect(status().isNoContent());
+
+        assertThat(storedContent()).isEqualTo(objectMapper.readTree(
+                "{\"title\": \"Engineer\", \"skills\": [\"go\", \"java\", \"sql\"], \"meta\": {\"level\": 2}}"));
+    }
+
+    @Test
+    void staleIfMatchIsPreconditionFailed() throws Exception {
+        patchContent(0, "[{\"op\": \"replace\", \"path\": \"/title\", \"value\": \"Lead\"}]")
+                .andExpect(status().isNoContent());
+
+        patchContent(0, "[{\"op\": \"replace\", \"path\": \"/title\", \"value\": \"Manager\"}]")
+                .andExpect(status().isPreconditionFailed());
+        assertThat(storedContent().get("title").asText()).isEqualTo("Lead");
+    }
+
+    @Test
+    void failedTestIsConflictAndWritesNothing() throws Exception {
+        patchContent(0, """
+                [{"op": "replace", "path": "/title", "value": "Lead"},
+                 {"op": "test", "path": "/meta/level", "value": 5}]
+                """)
+                .andExpect(status().isConflict());
+
+        assertThat(storedContent()).isEqualTo(objectMapper.readTree(CONTENT));
+        assertThat(cvSectionRepository.findVersionByIdAndCvId(section.getId(), section.getCv().getId())).contains(0L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"op\": \"add\", \"path\": \"/skills/3\", \"value\": \"go\"}",
+            "{\"op\": \"remove\", \"path\": \"/missing\"}",
+            "{\"op\": \"replace\", \"path\": \"/skills/2\", \"value\": \"go\"}",
+            "{\"op\": \"replace\", \"path\": \"/skills/-\", \"value\": \"go\"}",
+            "{\"op\": \"move\", \"from\": \"/missing\", \"path\": \"/other\"}",
+            "{\"op\": \"add\", \"path\": \"/missing/child\", \"value\": 1}"
+    })
+    void unapplicableOperationIsConflict(String operation) throws Exception {
+        patchContent(0, "[" + operation + "]")
+                .andExpect(status().isConflict());
+
+        assertThat(storedContent()).isEqualTo(objectMapper.readTree(CONTENT));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"op\": \"add\", \"path\": \"/summary\"}",
+            "{\"op\": \"replace\", \"path\": \"/title\"}",
+            "{\"op\": \"test\", \"path\": \"/title\"}",
+            "{\"op\": \"remove\", \"path\": \"/skills/-1\"}",
+            "{\"op\": \"replace\", \"path\": \"/skills/01\", \"value\": \"go\"}",
+            "{\"op\": \"add\", \"path\": \"/skills/+1\", \"value\": \"go\"}",
+            "{\"op\": \"copy\", \"from\": \"/skills/-1\", \"path\": \"/last\"}",
+            "{\"op\": \"frobnicate\", \"path\": \"/title\"}"
+    })
+    void malformedOperationIsBadRequest(String operation) throws Exception {
+        patchContent(0, "[" + operation + "]")
+                .andExpect(status().isBadRequest());
+
+        assertThat(storedContent()).isEqualTo(objectMapper.readTree(CONTENT));
+    }
+
+    @Test
+    void missingIfMatchIsPreconditionRequired() throws Exception {
+        mockMvc.perform(patch("/api/cvs/{cvId}/sections/{sectionId}/content", section.getCv().getId(), section.getId())
+                        .with(as(owner))
+                        .contentType("application/json-patch+json")
+                        .content("[{\"op\": \"remove\", \"path\": \"/title\"}]"))
+                .andExpect(status().isPreconditionRequired());
+    }
+
+    private ResultActions patchContent(long version, String body) throws Exception {
+        return mockMvc.perform(patch("/api/cvs/{cvId}/sections/{sectionId}/content", section.getCv().getId(), section.getId())
+                .with(as(owner))
+                .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                .contentType("application/json-patch+json")
+                .content(body));
+    }
+
+    private JsonNode storedContent() throws Exception {
+        String content = jdbcTemplate.queryForObject("SELECT content::text FROM cv_section WHERE id = ?",
+                String.class, section.getId());
+        return objectMapper.readTree(content);
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobos.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @Test
+    void allowsUpToCapacityThenWaitsForRefill() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(16, 2, 60, clock::get);
+
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isPositive();
+
+        clock.addAndGet(1_000);
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isPositive();
+    }
+
+    @Test
+    void deniedRetriesFasterThanOneMilliTokenStillRefill() {
+        // 1 token per minute: 60 ms per thousandth of a token, so a 50 ms retry gains nothing on its own
+        TokenBucketLimiter limiter = new TokenBucketLimiter(16, 1, 1, clock::get);
+        assertThat(limiter.tryAcquire("victim@example.com")).isZero();
+
+        long elapsed = 0;
+        while (elapsed < 59_950) {
+            clock.addAndGet(50);
+            elapsed += 50;
+            assertThat(limiter.tryAcquire("victim@example.com")).isPositive();
+        }
+
+        clock.addAndGet(50);
+        assertThat(limiter.tryAcquire("victim@example.com")).isZero();
+    }
+
+    @Test
+    void neverCreditsMoreThanElapsedTime() {
+        // 7 ms per thousandth of a token; retries every 3 ms must not round up into free tokens
+        TokenBucketLimiter limiter = new TokenBucketLimiter(16, 1, 60_000.0 / 7_000, clock::get);
+        assertThat(limiter.tryAcquire("key")).isZero();
+
+        for (int i = 0; i < 2_333; i++) {
+            clock.addAndGet(3);
+            assertThat(limiter.tryAcquire("key")).isPositive();
+        }
+    }
+
+    @Test
+    void keysAreIndependent() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1024, 1, 1, clock::get);
+
+        assertThat(limiter.tryAcquire("a@example.com")).isZero();
+        assertThat(limiter.tryAcquire("a@example.com")).isPositive();
+        assertThat(limiter.tryAcquire("b@example.com")).isZero();
+    }
+}
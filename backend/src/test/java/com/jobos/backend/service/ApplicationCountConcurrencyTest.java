@@ -0,0 +1,96 @@
+package com.jobos.backend.service;
+
+import com.jobos.backend.PostgresIntegrationTest;
+import com.jobos.backend.domain.job.JobPost;
+import com.jobos.backend.domain.user.User;
+import com.jobos.backend.domain.user.UserRole;
+import com.jobos.shared.dto.application.ApplicationRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationCountConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int APPLICANTS = 300;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private JobCountReconciler jobCountReconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void parallelAppliesEndAtExactCountWhileReconcilerRuns() throws Exception {
+        User poster = createUser(UserRole.POSTER);
+        JobPost job = createActiveJobs(poster, "Popular opening", 1).get(0);
+        List<User> seekers = new ArrayList<>(APPLICANTS);
+        for (int i = 0; i < APPLICANTS; i++) {
+            seekers.add(createUser(UserRole.SEEKER));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        try {
+            // Each round first knocks the count out of line so the reconciler has drift to repair while applies
+            // are in flight. A repair computed from a stale count would leave the count below the applies that
+            // have already returned, so check after every run rather than only at the end
+            AtomicBoolean applying = new AtomicBoolean(true);
+            AtomicInteger completed = new AtomicInteger();
+            List<String> lostIncrements = new CopyOnWriteArrayList<>();
+            Future<?> reconciler = executor.submit(() -> {
+                while (applying.get()) {
+                    jdbcTemplate.update("UPDATE job_posts SET application_count = 0 WHERE id = ?", job.getId());
+                    jobCountReconciler.reconcileApplicationCounts();
+                    int returned = completed.get();
+                    int count = jobPostRepository.findById(job.getId()).orElseThrow().getApplicationCount();
+                    if (count < returned) {
+                        lostIncrements.add(count + " < " + returned);
+                    }
+                }
+            });
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> applies = new ArrayList<>(APPLICANTS);
+            for (User seeker : seekers) {
+                applies.add(executor.submit(() -> {
+                    start.await();
+                    ApplicationRequest request = new ApplicationRequest();
+                    request.setJobId(job.getId());
+                    request.setCvFileUrl("https://example.com/cv.pdf");
+                    applicationService.apply(seeker.getId(), request);
+                    return completed.incrementAndGet();
+                }));
+            }
+            start.countDown();
+            for (Future<?> apply : applies) {
+                apply.get();
+            }
+            applying.set(false);
+            reconciler.get();
+            assertThat(lostIncrements).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(jobPostRepository.findById(job.getId()).orElseThrow().getApplicationCount())
+                .isEqualTo(APPLICANTS);
+        jobCountReconciler.reconcileApplicationCounts();
+        assertThat(jobPostRepository.findById(job.getId()).orElseThrow().getApplicationCount())
+                .isEqualTo(APPLICANTS);
+    }
+}
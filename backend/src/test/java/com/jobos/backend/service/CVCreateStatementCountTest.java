@@ -0,0 +1,85 @@
+package com.jobos.backend.service;
+
+import com.jobos.backend.PostgresIntegrationTest;
+import com.jobos.backend.config.QueryTracker;
+import com.jobos.backend.domain.cv.CVTemplate;
+import com.jobos.backend.domain.cv.TemplateCategory;
+import com.jobos.backend.domain.user.User;
+import com.jobos.backend.domain.user.UserRole;
+import com.jobos.backend.repository.CVTemplateRepository;
+import com.jobos.shared.dto.cv.CVCreateRequest;
+import com.jobos.shared.dto.cv.CVResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CVCreateStatementCountTest extends PostgresIntegrationTest {
+
+    // User, CV count, CV insert and one batched insert for all sections
+    private static final int STATEMENTS_PER_CV = 4;
+
+    @Autowired
+    private CVService cvService;
+
+    @Autowired
+    private CVTemplateCatalog cvTemplateCatalog;
+
+    @Autowired
+    private CVTemplateRepository cvTemplateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void executiveTemplateSectionsGoOutAsOneBatch() throws Exception {
+        UUID executive = cvTemplateCatalog.activeTemplates(TemplateCategory.PROFESSIONAL).stream()
+                .filter(entry -> entry.name().equals("Executive Elite"))
+                .findFirst().orElseThrow().id();
+
+        assertStatementBound(executive, 8);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 30})
+    void statementCountDoesNotGrowWithSectionCount(int sections) throws Exception {
+        assertStatementBound(createTemplate(sections), sections);
+    }
+
+    private void assertStatementBound(UUID templateId, int expectedSections) throws Exception {
+        User user = createUser(UserRole.SEEKER);
+        CVCreateRequest request = new CVCreateRequest();
+        request.setTitle("Statement count");
+        request.setTemplateId(templateId.toString());
+
+        CVResponse response = QueryTracker.assertMaxStatements(STATEMENTS_PER_CV,
+                () -> cvService.createCV(user.getId(), request));
+
+        assertThat(response.getSections()).hasSize(expectedSections);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM cv_section WHERE cv_id = ?", Integer.class,
+                UUID.fromString(response.getId()))).isEqualTo(expectedSections);
+    }
+
+    private UUID createTemplate(int sections) {
+        StringJoiner config = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < sections; i++) {
+            config.add("{\"sectionType\": \"CUSTOM\", \"title\": \"Section " + i + "\", \"orderIndex\": " + i
+                    + ", \"isVisible\": true, \"defaultContent\": {\"fields\": [\"title\", \"detail\"]}}");
+        }
+        CVTemplate template = new CVTemplate();
+        template.setName("Generated " + sections + " " + UUID.randomUUID());
+        template.setCategory(TemplateCategory.MINIMAL);
+        template.setSectionsConfig(config.toString());
+        template.setStyleConfig("{}");
+        UUID id = cvTemplateRepository.save(template).getId();
+        // Into the snapshot, so createCV does not fall back to loading the template row
+        cvTemplateCatalog.refresh();
+        return id;
+    }
+}
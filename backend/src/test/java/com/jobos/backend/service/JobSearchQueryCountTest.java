@@ -0,0 +1,47 @@
+package com.jobos.backend.service;
+
+import com.jobos.backend.PostgresIntegrationTest;
+import com.jobos.backend.config.QueryTracker;
+import com.jobos.backend.domain.job.JobPost;
+import com.jobos.backend.domain.user.User;
+import com.jobos.backend.domain.user.UserRole;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class JobSearchQueryCountTest extends PostgresIntegrationTest {
+
+    // Page, total count and the batched saved-job lookup
+    private static final int STATEMENTS_PER_PAGE = 3;
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 40})
+    void searchPageIssuesFixedStatementCountRegardlessOfPageSize(int size) throws Exception {
+        // A keyword of its own keeps the page to this test's jobs and misses the search cache
+        String keyword = "Quasar" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        User poster = createUser(UserRole.POSTER);
+        User seeker = createUser(UserRole.SEEKER);
+        List<JobPost> jobs = createActiveJobs(poster, keyword + " engineer", size);
+        int saved = (size + 1) / 2;
+        for (JobPost job : jobs.subList(0, saved)) {
+            mockMvc.perform(post("/api/jobs/{id}/save", job.getId()).with(as(seeker)))
+                    .andExpect(status().is2xxSuccessful());
+        }
+
+        QueryTracker.assertMaxStatements(STATEMENTS_PER_PAGE, () -> mockMvc.perform(post("/api/jobs/search")
+                        .with(as(seeker))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keywords\": \"" + keyword + "\", \"size\": " + size + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobs", hasSize(size)))
+                .andExpect(jsonPath("$.jobs[?(@.isSaved == true)]", hasSize(saved))));
+    }
+}
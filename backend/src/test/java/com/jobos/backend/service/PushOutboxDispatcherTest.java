@@ -0,0 +1,60 @@
+package com.jobos.backend.service;
+
+import com.jobos.backend.PostgresIntegrationTest;
+import com.jobos.backend.domain.notification.PushOutbox;
+import com.jobos.backend.domain.notification.PushOutboxStatus;
+import com.jobos.backend.domain.user.User;
+import com.jobos.backend.domain.user.UserRole;
+import com.jobos.backend.repository.PushOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PushOutboxDispatcherTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private PushOutboxDispatcher pushOutboxDispatcher;
+
+    @Autowired
+    private PushOutboxRepository pushOutboxRepository;
+
+    @Test
+    void deliveredRowsAreWrittenBackAsSent() throws Exception {
+        User user = createUser(UserRole.SEEKER);
+        List<PushOutbox> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            PushOutbox row = new PushOutbox();
+            row.setUserId(user.getId());
+            row.setFcmToken("token-" + UUID.randomUUID());
+            row.setTitle("Interview " + i);
+            row.setBody("You have a new interview");
+            row.setNextAttemptAt(Instant.now().minusSeconds(1));
+            rows.add(row);
+        }
+        List<UUID> ids = pushOutboxRepository.saveAll(rows).stream().map(PushOutbox::getId).toList();
+
+        // The scheduled run may pick the rows up first, in which case this call returns straight away
+        List<PushOutbox> stored = List.of();
+        for (int attempt = 0; attempt < 50; attempt++) {
+            pushOutboxDispatcher.dispatchPending();
+            stored = pushOutboxRepository.findAllById(ids);
+            if (stored.stream().allMatch(row -> row.getStatus() == PushOutboxStatus.SENT)) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+
+        assertThat(stored).hasSize(3).allSatisfy(row -> {
+            assertThat(row.getStatus()).isEqualTo(PushOutboxStatus.SENT);
+            assertThat(row.getAttempts()).isEqualTo(1);
+            assertThat(row.getSentAt()).isNotNull();
+            assertThat(row.getLastError()).isNull();
+        });
+    }
+}
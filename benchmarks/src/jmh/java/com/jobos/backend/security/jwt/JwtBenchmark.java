@@ -0,0 +1,57 @@
+package com.jobos.backend.security.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuance and the per-request cost of authenticating a bearer token, comparing the old
+ * validate-plus-four-getters sequence (five signature checks) with the single-parse path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private UUID userId;
+    private UUID sessionId;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil("benchmark-secret-key-that-is-long-enough-for-hmac-sha512-signing-0123456789", 15, 30);
+        userId = UUID.randomUUID();
+        sessionId = UUID.randomUUID();
+        accessToken = jwtUtil.generateAccessToken(userId, "seeker@example.com", "SEEKER", sessionId);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(userId, "seeker@example.com", "SEEKER", sessionId);
+    }
+
+    @Benchmark
+    public void authenticateMultiParse(Blackhole blackhole) {
+        if (jwtUtil.validateToken(accessToken)) {
+            blackhole.consume(jwtUtil.getUserIdFromToken(accessToken));
+            blackhole.consume(jwtUtil.getSessionIdFromToken(accessToken));
+            blackhole.consume(jwtUtil.getEmailFromToken(accessToken));
+            blackhole.consume(jwtUtil.getRoleFromToken(accessToken));
+        }
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> authenticateSingleParse() {
+        return jwtUtil.parseClaims(accessToken);
+    }
+}
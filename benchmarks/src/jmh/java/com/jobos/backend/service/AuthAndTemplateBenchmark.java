@@ -0,0 +1,126 @@
+package com.jobos.backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobos.backend.config.JacksonConfig;
+import com.jobos.backend.domain.cv.CVTemplate;
+import com.jobos.backend.domain.cv.TemplateCategory;
+import com.jobos.backend.repository.CVTemplateRepository;
+import com.jobos.shared.dto.cv.CVTemplateResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh-token hashing done on every login and refresh, and building a template listing from the
+ * catalog's prebuilt entries against the old path that parsed every template's section config per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthAndTemplateBenchmark {
+
+    private static final String SECTIONS_CONFIG = """
+        [
+            {"sectionType": "PERSONAL_INFO", "title": "Personal Information", "orderIndex": 0, "isVisible": true, "defaultContent": {"fields": ["fullName", "email", "phone", "address", "linkedIn", "portfolio"]}},
+            {"sectionType": "SUMMARY", "title": "Professional Summary", "orderIndex": 1, "isVisible": true, "defaultContent": {"placeholder": "A results-driven professional with X years of experience in..."}},
+            {"sectionType": "EXPERIENCE", "title": "Work Experience", "orderIndex": 2, "isVisible": true, "defaultContent": {"fields": ["jobTitle", "company", "location", "startDate", "endDate", "current", "responsibilities", "achievements"]}},
+            {"sectionType": "EDUCATION", "title": "Education", "orderIndex": 3, "isVisible": true, "defaultContent": {"fields": ["degree", "institution", "location", "graduationDate", "gpa", "honors", "relevantCoursework"]}},
+            {"sectionType": "SKILLS", "title": "Skills", "orderIndex": 4, "isVisible": true, "defaultContent": {"categories": ["Technical Skills", "Soft Skills", "Tools & Software"]}},
+            {"sectionType": "CERTIFICATIONS", "title": "Certifications", "orderIndex": 5, "isVisible": true, "defaultContent": {"fields": ["certName", "issuingOrg", "issueDate", "expiryDate", "credentialId"]}}
+        ]
+        """;
+
+    private static final int TEMPLATES = 12;
+    private static final TypeReference<List<Map<String, Object>>> SECTION_LIST = new TypeReference<>() {};
+
+    private AuthService authService;
+    private ObjectMapper objectMapper;
+    private CVTemplateCatalog cvTemplateCatalog;
+    private List<CVTemplate> templates;
+    private Set<UUID> unlockedTemplateIds;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        authService = new AuthService(null, null, null, null, null, null);
+        objectMapper = new JacksonConfig().objectMapper();
+        refreshToken = "eyJhbGciOiJIUzUxMiJ9." + UUID.randomUUID() + UUID.randomUUID() + "." + UUID.randomUUID();
+
+        templates = new ArrayList<>(TEMPLATES);
+        for (int i = 0; i < TEMPLATES; i++) {
+            CVTemplate template = new CVTemplate();
+            template.setId(UUID.randomUUID());
+            template.setName("Template " + i);
+            template.setDescription("A clean single-column layout");
+            template.setIsPremium(i % 3 == 0);
+            template.setCreditCost(i % 3 == 0 ? 50 : 0);
+            template.setCategory(TemplateCategory.values()[i % TemplateCategory.values().length]);
+            template.setSectionsConfig(SECTIONS_CONFIG);
+            template.setStyleConfig("{\"fontFamily\": \"Inter\", \"primaryColor\": \"#1F2937\"}");
+            template.setCreatedAt(LocalDateTime.now());
+            templates.add(template);
+        }
+        unlockedTemplateIds = Set.of(templates.get(0).getId());
+
+        // The catalog only needs findAll to build its snapshot
+        CVTemplateRepository repository = (CVTemplateRepository) Proxy.newProxyInstance(
+                CVTemplateRepository.class.getClassLoader(), new Class<?>[]{CVTemplateRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && method.getParameterCount() == 0) {
+                        return templates;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        cvTemplateCatalog = new CVTemplateCatalog(repository, objectMapper);
+        cvTemplateCatalog.refresh();
+    }
+
+    @Benchmark
+    public String hashToken() {
+        return authService.hashToken(refreshToken);
+    }
+
+    @Benchmark
+    public List<CVTemplateResponse> listTemplatesFromCatalog() {
+        return cvTemplateCatalog.activeTemplates(null).stream()
+                .map(entry -> entry.toResponse(unlockedTemplateIds.contains(entry.id())))
+                .toList();
+    }
+
+    // What CVTemplateService did per listing before the catalog: map each row and parse its section config to count it
+    @Benchmark
+    public List<CVTemplateResponse> listTemplatesParsingPerRequest() throws Exception {
+        List<CVTemplateResponse> responses = new ArrayList<>(templates.size());
+        for (CVTemplate template : templates) {
+            CVTemplateResponse response = new CVTemplateResponse();
+            response.setId(template.getId().toString());
+            response.setName(template.getName());
+            response.setDescription(template.getDescription());
+            response.setPreviewImageUrl(template.getPreviewImageUrl());
+            response.setIsPremium(template.getIsPremium());
+            response.setCreditCost(template.getCreditCost());
+            response.setCategory(template.getCategory().name());
+            response.setIsUnlocked(unlockedTemplateIds.contains(template.getId()));
+            response.setSectionsConfig(template.getSectionsConfig());
+            response.setStyleConfig(template.getStyleConfig());
+            response.setSectionCount(objectMapper.readValue(template.getSectionsConfig(), SECTION_LIST).size());
+            response.setCreatedAt(template.getCreatedAt());
+            responses.add(response);
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,84 @@
+package com.jobos.backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobos.backend.config.JacksonConfig;
+import com.jobos.backend.domain.job.ExperienceLevel;
+import com.jobos.backend.domain.job.JobPost;
+import com.jobos.backend.domain.job.JobStatus;
+import com.jobos.backend.domain.job.JobType;
+import com.jobos.shared.dto.job.JobListResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row cost of building a search result: entity to DTO mapping, which parses the skills JSON,
+ * and the skills round trip through the application's ObjectMapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JobSearchMappingBenchmark {
+
+    private static final TypeReference<List<String>> SKILL_LIST = new TypeReference<>() {};
+
+    private ObjectMapper objectMapper;
+    private JobSearchService jobSearchService;
+    private JobPost jobPost;
+    private List<String> skills;
+    private String skillsJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new JacksonConfig().objectMapper();
+        jobSearchService = new JobSearchService(null, null, null, objectMapper, null, null, null, new SimpleMeterRegistry());
+
+        skills = List.of("Java", "Spring Boot", "PostgreSQL", "Docker", "Kubernetes", "REST APIs", "Microservices", "AWS");
+        skillsJson = objectMapper.writeValueAsString(skills);
+
+        jobPost = new JobPost();
+        jobPost.setId(UUID.randomUUID());
+        jobPost.setTitle("Senior Backend Engineer");
+        jobPost.setCompany("Acme Corporation");
+        jobPost.setLocation("Dhaka, Bangladesh");
+        jobPost.setIsRemote(true);
+        jobPost.setJobType(JobType.FULL_TIME);
+        jobPost.setExperienceLevel(ExperienceLevel.SENIOR);
+        jobPost.setSalaryMin(90000);
+        jobPost.setSalaryMax(130000);
+        jobPost.setSalaryCurrency("USD");
+        jobPost.setSkills(skillsJson);
+        jobPost.setDescription("We are looking for a backend engineer to design and operate our hiring platform. ".repeat(8));
+        jobPost.setApplicationDeadline(LocalDate.now().plusDays(30));
+        jobPost.setStatus(JobStatus.ACTIVE);
+        jobPost.setApplicationCount(42);
+        jobPost.setCreatedAt(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public JobListResponse mapToJobListResponse() {
+        return jobSearchService.mapToJobListResponse(jobPost);
+    }
+
+    @Benchmark
+    public List<String> deserializeSkills() throws Exception {
+        return objectMapper.readValue(skillsJson, SKILL_LIST);
+    }
+
+    @Benchmark
+    public String serializeSkills() throws Exception {
+        return objectMapper.writeValueAsString(skills);
+    }
+}
@@ -0,0 +1,107 @@
+package com.jobos.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The backend under test, running in its own JVM with the {@code loadtest} profile.
+ */
+final class BackendProcess implements AutoCloseable {
+
+    private static final String MAIN_CLASS = "com.jobos.backend.JobosBackendApplication";
+
+    private final Process process;
+    private final Path logFile;
+    private final String baseUrl;
+    private final String managementUrl;
+
+    private BackendProcess(Process process, Path logFile, int port, int managementPort) {
+        this.process = process;
+        this.logFile = logFile;
+        this.baseUrl = "http://localhost:" + port;
+        this.managementUrl = "http://localhost:" + managementPort;
+    }
+
+    static BackendProcess start(LoadTestOptions options, String classpath, String jdbcUrl,
+                                String username, String password, Path workDir) throws IOException {
+        int port = freePort();
+        int managementPort = freePort();
+        String java = ProcessHandle.current().info().command().orElse("java");
+
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.add("-Xms" + options.backendHeap());
+        command.add("-Xmx" + options.backendHeap());
+        command.add("-cp");
+        command.add(classpath);
+        command.add(MAIN_CLASS);
+        command.add("--server.port=" + port);
+        command.add("--management.server.port=" + managementPort);
+        command.add("--spring.profiles.active=loadtest");
+        command.add("--spring.datasource.url=" + jdbcUrl);
+        command.add("--spring.datasource.username=" + username);
+        command.add("--spring.datasource.password=" + password);
+        command.add("--spring.threads.virtual.enabled=" + options.virtualThreads());
+        command.add("--loadtest.seed.users=" + options.users());
+        command.add("--loadtest.seed.jobs=" + options.jobs());
+
+        Path logFile = workDir.resolve("backend-" + options.label() + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        return new BackendProcess(process, logFile, port, managementPort);
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Blocks until the readiness probe reports UP, which happens only after the seeder has finished.
+     */
+    void awaitReady(HttpClient client, Duration timeout) throws InterruptedException {
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(managementUrl + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Backend exited with code " + process.exitValue() + ", see " + logFile);
+            }
+            try {
+                if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException("Backend was not ready within " + timeout + ", see " + logFile);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobos.loadtest;
+
+/**
+ * The backend operations exercised by the driver, keyed by the short name used in {@code --mix}.
+ */
+public enum Endpoint {
+    SEARCH("search", "POST /api/jobs/search"),
+    JOB_DETAIL("job", "GET /api/jobs/{id}"),
+    APPLICATIONS("applications", "GET /api/applications"),
+    NOTIFICATIONS("notifications", "GET /api/notifications");
+
+    private final String key;
+    private final String label;
+
+    Endpoint(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint '" + key + "'");
+    }
+}
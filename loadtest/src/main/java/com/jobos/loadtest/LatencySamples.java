@@ -0,0 +1,64 @@
+package com.jobos.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Growable buffer of latency samples in nanoseconds. Each worker owns its own instance, so no locking is needed;
+ * buffers are merged once the run is over.
+ */
+final class LatencySamples {
+
+    private long[] values = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long nanos) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    void addAll(LatencySamples other) {
+        if (size + other.size > values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+        }
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * Sorts the samples in place; call once before reading percentiles.
+     */
+    void sort() {
+        Arrays.sort(values, 0, size);
+    }
+
+    /**
+     * Nearest-rank percentile of sorted samples, in milliseconds.
+     */
+    double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * size);
+        return values[Math.max(0, Math.min(size - 1, rank - 1))] / 1_000_000.0;
+    }
+
+    double maxMillis() {
+        return size == 0 ? 0 : values[size - 1] / 1_000_000.0;
+    }
+}
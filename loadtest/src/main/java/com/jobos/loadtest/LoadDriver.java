@@ -0,0 +1,192 @@
+package com.jobos.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobos.shared.dto.auth.LoginRequest;
+import com.jobos.shared.dto.job.JobSearchRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load generator: each worker logs in as its own seeker and issues requests back to back, picking the
+ * endpoint from the weighted mix. Samples taken during warmup are discarded.
+ */
+final class LoadDriver {
+
+    private static final String PASSWORD = "LoadTest123!";
+    private static final String EMAIL_DOMAIN = "loadtest.jobos";
+    private static final int MAX_DISCOVERED_JOBS = 2000;
+    private static final String[] KEYWORDS = {
+        "Java", "Spring", "PostgreSQL", "React", "Python", "Kubernetes", "Engineer", "Developer", "Analyst"
+    };
+    private static final String[] LOCATIONS = {"Dhaka", "Berlin", "London", "New York", "Singapore"};
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    LoadDriver(LoadTestOptions options, HttpClient client, ObjectMapper objectMapper, String baseUrl) {
+        this.options = options;
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+    }
+
+    Map<Endpoint, LatencySamples> run() throws Exception {
+        int seekers = Math.max(1, options.users() - Math.max(1, options.users() / 10));
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < Math.min(options.concurrency(), seekers); i++) {
+            tokens.add(login("seeker" + i + "@" + EMAIL_DOMAIN));
+        }
+        List<String> jobIds = discoverJobIds(tokens.getFirst());
+        if (jobIds.isEmpty()) {
+            throw new IllegalStateException("Search returned no jobs; was the dataset seeded?");
+        }
+        System.out.printf("Logged in %d seekers, discovered %d jobs%n", tokens.size(), jobIds.size());
+
+        long start = System.nanoTime();
+        long measureFrom = start + Duration.ofSeconds(options.warmupSeconds()).toNanos();
+        long deadline = measureFrom + Duration.ofSeconds(options.durationSeconds()).toNanos();
+
+        List<Future<Map<Endpoint, LatencySamples>>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                String token = tokens.get(i % tokens.size());
+                Random random = new Random(i);
+                workers.add(executor.submit(() -> work(token, jobIds, random, measureFrom, deadline)));
+            }
+        }
+
+        Map<Endpoint, LatencySamples> merged = new EnumMap<>(Endpoint.class);
+        for (Future<Map<Endpoint, LatencySamples>> worker : workers) {
+            worker.get().forEach((endpoint, samples) ->
+                    merged.computeIfAbsent(endpoint, e -> new LatencySamples()).addAll(samples));
+        }
+        return merged;
+    }
+
+    private Map<Endpoint, LatencySamples> work(String token, List<String> jobIds, Random random,
+                                               long measureFrom, long deadline) throws InterruptedException {
+        Map<Endpoint, LatencySamples> samples = new EnumMap<>(Endpoint.class);
+        Endpoint[] weighted = weightedEndpoints();
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = weighted[random.nextInt(weighted.length)];
+            HttpRequest request = buildRequest(endpoint, token, jobIds, random);
+            long started = System.nanoTime();
+            boolean ok;
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                ok = status >= 200 && status < 300;
+            } catch (IOException e) {
+                ok = false;
+            }
+            long finished = System.nanoTime();
+            if (started >= measureFrom && finished <= deadline) {
+                LatencySamples endpointSamples = samples.computeIfAbsent(endpoint, e -> new LatencySamples());
+                if (ok) {
+                    endpointSamples.record(finished - started);
+                } else {
+                    endpointSamples.recordError();
+                }
+            }
+        }
+        return samples;
+    }
+
+    private Endpoint[] weightedEndpoints() {
+        List<Endpoint> slots = new ArrayList<>();
+        options.mix().forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(endpoint);
+            }
+        });
+        return slots.toArray(Endpoint[]::new);
+    }
+
+    private HttpRequest buildRequest(Endpoint endpoint, String token, List<String> jobIds, Random random) {
+        HttpRequest.Builder builder = switch (endpoint) {
+            case SEARCH -> post("/api/jobs/search", searchRequest(random));
+            case JOB_DETAIL -> HttpRequest.newBuilder(uri("/api/jobs/" + jobIds.get(random.nextInt(jobIds.size())))).GET();
+            case APPLICATIONS -> HttpRequest.newBuilder(uri("/api/applications?page=0&size=20")).GET();
+            case NOTIFICATIONS -> HttpRequest.newBuilder(uri("/api/notifications?page=0&size=20")).GET();
+        };
+        return builder.header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    private JobSearchRequest searchRequest(Random random) {
+        JobSearchRequest request = new JobSearchRequest();
+        if (random.nextInt(2) == 0) {
+            request.setKeywords(KEYWORDS[random.nextInt(KEYWORDS.length)]);
+        }
+        if (random.nextInt(10) < 3) {
+            request.setLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+        }
+        request.setPage(random.nextInt(5));
+        request.setSize(20);
+        return request;
+    }
+
+    private String login(String email) throws IOException, InterruptedException {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(email);
+        request.setPassword(PASSWORD);
+        JsonNode body = send(post("/api/auth/login", request).build());
+        return body.path("result").path("accessToken").asText();
+    }
+
+    private List<String> discoverJobIds(String token) throws IOException, InterruptedException {
+        List<String> ids = new ArrayList<>();
+        for (int page = 0; ids.size() < MAX_DISCOVERED_JOBS; page++) {
+            JobSearchRequest request = new JobSearchRequest();
+            request.setPage(page);
+            request.setSize(100);
+            JsonNode body = send(post("/api/jobs/search", request)
+                    .header("Authorization", "Bearer " + token)
+                    .build());
+            body.path("jobs").forEach(job -> ids.add(job.path("id").asText()));
+            if (!body.path("hasNext").asBoolean(false)) {
+                break;
+            }
+        }
+        return ids;
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest.Builder post(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize request body", e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
@@ -0,0 +1,77 @@
+package com.jobos.loadtest;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line options for a load-test run, given as {@code --name=value}.
+ */
+public record LoadTestOptions(
+        String label,
+        int users,
+        int jobs,
+        int concurrency,
+        int warmupSeconds,
+        int durationSeconds,
+        boolean virtualThreads,
+        String backendHeap,
+        Map<Endpoint, Integer> mix,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword
+) {
+
+    private static final String DEFAULT_MIX = "search:40,job:35,applications:15,notifications:10";
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        boolean virtualThreads = Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false"));
+        return new LoadTestOptions(
+                values.getOrDefault("label", virtualThreads ? "virtual" : "platform"),
+                Integer.parseInt(values.getOrDefault("users", "1000")),
+                Integer.parseInt(values.getOrDefault("jobs", "5000")),
+                Integer.parseInt(values.getOrDefault("concurrency", "64")),
+                Integer.parseInt(values.getOrDefault("warmup", "15")),
+                Integer.parseInt(values.getOrDefault("duration", "60")),
+                virtualThreads,
+                values.getOrDefault("backend-heap", "1g"),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                values.get("jdbc-url"),
+                values.getOrDefault("jdbc-username", "postgres"),
+                values.getOrDefault("jdbc-password", "postgres"));
+    }
+
+    /**
+     * Whether to connect to an existing PostgreSQL instead of starting the embedded one.
+     */
+    public boolean useExternalDatabase() {
+        return jdbcUrl != null && !jdbcUrl.isBlank();
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String spec) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected endpoint:weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The request mix must contain at least one endpoint");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,143 @@
+package com.jobos.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Boots the backend against a throwaway PostgreSQL, seeds it, drives the request mix and reports per-endpoint
+ * latency percentiles and throughput. Runs entirely on the local machine.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        String classpath = requiredProperty("loadtest.backend.classpath");
+        Path workDir = Files.createDirectories(Path.of(System.getProperty("loadtest.work.dir", "build/loadtest")));
+        Path resultsDir = Files.createDirectories(Path.of(System.getProperty("loadtest.results.dir", "build/results/loadtest")));
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        EmbeddedPostgres embedded = null;
+        try {
+            String jdbcUrl;
+            String username;
+            String password;
+            if (options.useExternalDatabase()) {
+                jdbcUrl = options.jdbcUrl();
+                username = options.jdbcUsername();
+                password = options.jdbcPassword();
+            } else {
+                // A fresh data directory per run keeps results comparable across commits
+                embedded = EmbeddedPostgres.builder()
+                        .setDataDirectory(workDir.resolve("pgdata"))
+                        .setCleanDataDirectory(true)
+                        .setPGStartupWait(Duration.ofSeconds(60))
+                        .start();
+                jdbcUrl = embedded.getJdbcUrl("postgres", "postgres");
+                username = "postgres";
+                password = "postgres";
+            }
+
+            System.out.printf("Starting backend (%s threads, %d users, %d jobs)%n",
+                    options.virtualThreads() ? "virtual" : "platform", options.users(), options.jobs());
+            try (BackendProcess backend = BackendProcess.start(options, classpath, jdbcUrl, username, password, workDir)) {
+                backend.awaitReady(client, Duration.ofMinutes(15));
+                System.out.printf("Backend ready, warming up for %ds then measuring for %ds with %d workers%n",
+                        options.warmupSeconds(), options.durationSeconds(), options.concurrency());
+
+                Map<Endpoint, LatencySamples> samples =
+                        new LoadDriver(options, client, objectMapper, backend.baseUrl()).run();
+                List<EndpointResult> results = summarize(samples, options.durationSeconds());
+                printTable(results);
+
+                Path report = resultsDir.resolve(options.label() + ".json");
+                objectMapper.writeValue(report.toFile(), reportOf(options, results));
+                System.out.println("Report written to " + report);
+            }
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    record EndpointResult(String endpoint, int requests, long errors, double throughputPerSecond,
+                          double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    private static List<EndpointResult> summarize(Map<Endpoint, LatencySamples> samples, int durationSeconds) {
+        List<EndpointResult> results = new ArrayList<>();
+        LatencySamples total = new LatencySamples();
+        samples.forEach((endpoint, endpointSamples) -> {
+            total.addAll(endpointSamples);
+            results.add(resultOf(endpoint.getLabel(), endpointSamples, durationSeconds));
+        });
+        results.add(resultOf("TOTAL", total, durationSeconds));
+        return results;
+    }
+
+    private static EndpointResult resultOf(String name, LatencySamples samples, int durationSeconds) {
+        samples.sort();
+        return new EndpointResult(name, samples.size(), samples.errors(),
+                (double) samples.size() / durationSeconds,
+                samples.percentileMillis(50), samples.percentileMillis(95), samples.percentileMillis(99),
+                samples.maxMillis());
+    }
+
+    private static void printTable(List<EndpointResult> results) {
+        System.out.printf("%n%-28s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (EndpointResult r : results) {
+            System.out.printf("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    r.endpoint(), r.requests(), r.errors(), r.throughputPerSecond(),
+                    r.p50Ms(), r.p95Ms(), r.p99Ms(), r.maxMs());
+        }
+        System.out.println();
+    }
+
+    private static Map<String, Object> reportOf(LoadTestOptions options, List<EndpointResult> results) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", options.users());
+        config.put("jobs", options.jobs());
+        config.put("concurrency", options.concurrency());
+        config.put("warmupSeconds", options.warmupSeconds());
+        config.put("durationSeconds", options.durationSeconds());
+        config.put("virtualThreads", options.virtualThreads());
+        config.put("backendHeap", options.backendHeap());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((endpoint, weight) -> mix.put(endpoint.getKey(), weight));
+        config.put("mix", mix);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", options.label());
+        report.put("finishedAt", Instant.now().toString());
+        report.put("config", config);
+        report.put("results", results);
+        return report;
+    }
+
+    private static String requiredProperty(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("System property " + name + " is not set; run via ./gradlew :loadtest:run");
+        }
+        return value;
+    }
+}
@@ -10,6 +10,7 @@ public class CVSectionResponse {
     private String content;
     private Integer orderIndex;
     private Boolean isVisible;
+    private Long version;
     private LocalDateTime createdAt;
 
     public String getId() {
@@ -60,6 +61,14 @@ public class CVSectionResponse {
         this.isVisible = isVisible;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,57 @@
+package com.jobos.shared.dto.cv;
+
+/**
+ * One RFC 6902 operation. {@code path} and {@code from} are JSON Pointers into the section content.
+ */
+public class JsonPatchOperation {
+
+    private String op;
+
+    private String path;
+
+    private String from;
+
+    private Object value;
+
+    private boolean valuePresent;
+
+    public String getOp() {
+        return op;
+    }
+
+    public void setOp(String op) {
+        this.op = op;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public void setValue(Object value) {
+        this.value = value;
+        this.valuePresent = true;
+    }
+
+    /**
+     * Whether the request carried a {@code value} member at all, which tells an absent value from an explicit null.
+     */
+    public boolean hasValue() {
+        return valuePresent;
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobos.shared.dto.job;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class JobSearchFacets {
+
+    private Map<String, Long> jobTypes = new LinkedHashMap<>();
+    private Map<String, Long> experienceLevels = new LinkedHashMap<>();
+    private Map<String, Long> workplace = new LinkedHashMap<>();
+    private Map<String, Long> salaryRanges = new LinkedHashMap<>();
+
+    public Map<String, Long> getJobTypes() {
+        return jobTypes;
+    }
+
+    public void setJobTypes(Map<String, Long> jobTypes) {
+        this.jobTypes = jobTypes;
+    }
+
+    public Map<String, Long> getExperienceLevels() {
+        return experienceLevels;
+    }
+
+    public void setExperienceLevels(Map<String, Long> experienceLevels) {
+        this.experienceLevels = experienceLevels;
+    }
+
+    public Map<String, Long> getWorkplace() {
+        return workplace;
+    }
+
+    public void setWorkplace(Map<String, Long> workplace) {
+        this.workplace = workplace;
+    }
+
+    public Map<String, Long> getSalaryRanges() {
+        return salaryRanges;
+    }
+
+    public void setSalaryRanges(Map<String, Long> salaryRanges) {
+        this.salaryRanges = salaryRanges;
+    }
+}
@@ -12,11 +12,15 @@ public class JobSearchRequest {
     private Integer salaryMin;
     private Integer salaryMax;
     private List<String> skills;
+    private String skillMatch = "ALL";
     private String postedWithin;
     private Integer page = 0;
     private Integer size = 20;
     private String sortBy = "createdAt";
     private String sortDirection = "DESC";
+    private String paginationMode = "OFFSET";
+    private String cursor;
+    private Boolean includeFacets = false;
 
     public String getKeywords() {
         return keywords;
@@ -82,6 +86,14 @@ public class JobSearchRequest {
         this.skills = skills;
     }
 
+    public String getSkillMatch() {
+        return skillMatch;
+    }
+
+    public void setSkillMatch(String skillMatch) {
+        this.skillMatch = skillMatch;
+    }
+
     public String getPostedWithin() {
         return postedWithin;
     }
@@ -121,4 +133,28 @@ public class JobSearchRequest {
     public void setSortDirection(String sortDirection) {
         this.sortDirection = sortDirection;
     }
+
+    public String getPaginationMode() {
+        return paginationMode;
+    }
+
+    public void setPaginationMode(String paginationMode) {
+        this.paginationMode = paginationMode;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Boolean getIncludeFacets() {
+        return includeFacets;
+    }
+
+    public void setIncludeFacets(Boolean includeFacets) {
+        this.includeFacets = includeFacets;
+    }
 }
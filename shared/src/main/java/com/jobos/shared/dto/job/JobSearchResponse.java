@@ -11,6 +11,8 @@ public class JobSearchResponse {
     private Integer pageSize;
     private Boolean hasNext;
     private Boolean hasPrevious;
+    private String nextCursor;
+    private JobSearchFacets facets;
 
     public List<JobListResponse> getJobs() {
         return jobs;
@@ -67,4 +69,20 @@ public class JobSearchResponse {
     public void setHasPrevious(Boolean hasPrevious) {
         this.hasPrevious = hasPrevious;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public JobSearchFacets getFacets() {
+        return facets;
+    }
+
+    public void setFacets(JobSearchFacets facets) {
+        this.facets = facets;
+    }
 }